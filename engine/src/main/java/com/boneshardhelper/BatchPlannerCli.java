@@ -0,0 +1,514 @@
+package com.boneshardhelper;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Streams planning scenarios through PrayerCalculationEngine: one scenario per input line on stdin, one
+// result per output line on stdout. Input is CSV with a header row, or JSON lines (one flat object per line);
+// the format is picked from the first non-blank line. Lines are read, planned and written one at a time, so
+// memory stays constant however many scenarios are piped through.
+//
+// Fields: id, currentXP or currentLevel, targetXP or targetLevel, sunfire, zealot, and a count per bone
+// named after its BoneType constant (for example DRAGON_BONES). Without a target the scenario is planned
+// from its bones alone, as in Resource Mode.
+public final class BatchPlannerCli {
+
+    private static final String[] OUTPUT_FIELDS = {
+            "id", "requiredShards", "availableShards", "shardShortage", "winesNeeded", "achievableLevel",
+            "remainingXP", "goalAchieved", "error"
+    };
+
+    // Input field kinds; anything at or above BONE_FIELD is a bone count, offset by BoneType ordinal
+    private static final int ID = 0;
+    private static final int CURRENT_XP = 1;
+    private static final int CURRENT_LEVEL = 2;
+    private static final int TARGET_XP = 3;
+    private static final int TARGET_LEVEL = 4;
+    private static final int SUNFIRE = 5;
+    private static final int ZEALOT = 6;
+    private static final int BONE_FIELD = 7;
+
+    private static final BoneType[] BONE_TYPES = BoneType.values();
+
+    private final PrayerCalculationEngine engine = new PrayerCalculationEngine();
+
+    // Reused for every line
+    private final Scenario scenario = new Scenario();
+    private final List<String> fields = new ArrayList<>();
+
+    private boolean jsonOutput;
+    private int[] csvColumns;
+    private long processed = 0;
+    private long failed = 0;
+
+    public static void main(String[] args) throws IOException {
+        String outputFormat = null;
+        for (int i = 0; i < args.length; i++) {
+            if ("--output".equals(args[i]) && i + 1 < args.length) {
+                outputFormat = args[++i];
+            } else {
+                System.err.println("Usage: BatchPlannerCli [--output csv|jsonl] < scenarios > results");
+                System.exit(2);
+                return;
+            }
+        }
+
+        if (outputFormat != null && !"csv".equals(outputFormat) && !"jsonl".equals(outputFormat)) {
+            System.err.println("Unknown output format: " + outputFormat);
+            System.exit(2);
+            return;
+        }
+
+        BatchPlannerCli cli = new BatchPlannerCli();
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try {
+            cli.run(in, out, outputFormat);
+        } catch (IllegalArgumentException e) {
+            out.flush();
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        out.flush();
+
+        System.err.println("Processed " + cli.processed + " scenarios (" + cli.failed + " failed)");
+    }
+
+    void run(BufferedReader in, Writer out, String outputFormat) throws IOException {
+        // outputFormat null means the same format as the input
+        Boolean jsonInput = null;
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            if (jsonInput == null) {
+                jsonInput = line.trim().startsWith("{");
+                jsonOutput = outputFormat == null ? jsonInput : "jsonl".equals(outputFormat);
+                if (!jsonInput) {
+                    csvColumns = parseCsvHeader(line);
+                }
+                if (!jsonOutput) {
+                    writeCsvRow(out, OUTPUT_FIELDS);
+                }
+                if (!jsonInput) {
+                    continue;
+                }
+            }
+
+            scenario.reset();
+            try {
+                if (jsonInput) {
+                    readJson(line);
+                } else {
+                    readCsv(line);
+                }
+                writeResult(out, plan());
+            } catch (IllegalArgumentException e) {
+                failed++;
+                writeError(out, e.getMessage());
+            }
+            processed++;
+        }
+    }
+
+    long getProcessed() {
+        return processed;
+    }
+
+    long getFailed() {
+        return failed;
+    }
+
+    private CalculationResultSnapshot plan() {
+        if (scenario.currentXP < 0 && scenario.currentLevel < 0) {
+            throw new IllegalArgumentException("currentXP or currentLevel is required");
+        }
+
+        int currentXP = scenario.currentXP >= 0 ? scenario.currentXP
+                : PrayerConstants.getXPForLevel(scenario.currentLevel);
+        int currentLevel = PrayerConstants.getLevelForXP(currentXP);
+        int targetXP = Math.max(scenario.targetXP, 0);
+        int targetLevel = scenario.targetLevel >= 0 ? scenario.targetLevel
+                : targetXP > 0 ? PrayerConstants.getLevelForXP(targetXP) : -1;
+
+        BoneBreakdown bones = BoneBreakdown.ofCounts(scenario.boneCounts);
+        if (targetLevel < 0) {
+            return engine.calculateFromResources(new PrayerDataSnapshot(currentXP, currentLevel, currentLevel, 0,
+                    scenario.sunfire, scenario.zealot, false, bones));
+        }
+
+        return engine.calculateForTarget(new PrayerDataSnapshot(currentXP, currentLevel, targetLevel, targetXP,
+                scenario.sunfire, scenario.zealot, false, bones));
+    }
+
+    private static int resolveField(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "id":
+                return ID;
+            case "currentxp":
+                return CURRENT_XP;
+            case "currentlevel":
+                return CURRENT_LEVEL;
+            case "targetxp":
+                return TARGET_XP;
+            case "targetlevel":
+                return TARGET_LEVEL;
+            case "sunfire":
+                return SUNFIRE;
+            case "zealot":
+                return ZEALOT;
+            default:
+                for (BoneType boneType : BONE_TYPES) {
+                    if (boneType.name().equalsIgnoreCase(name.trim())) {
+                        return BONE_FIELD + boneType.ordinal();
+                    }
+                }
+                throw new IllegalArgumentException("Unknown field: " + name);
+        }
+    }
+
+    private void setField(int field, String value) {
+        if (field == ID) {
+            scenario.id = value;
+            return;
+        }
+        if (value.isEmpty() || "null".equals(value)) {
+            return;
+        }
+
+        switch (field) {
+            case CURRENT_XP:
+                scenario.currentXP = parseNonNegative(value, "currentXP");
+                break;
+            case CURRENT_LEVEL:
+                scenario.currentLevel = parseNonNegative(value, "currentLevel");
+                break;
+            case TARGET_XP:
+                scenario.targetXP = parseNonNegative(value, "targetXP");
+                break;
+            case TARGET_LEVEL:
+                scenario.targetLevel = parseNonNegative(value, "targetLevel");
+                break;
+            case SUNFIRE:
+                scenario.sunfire = parseBoolean(value, "sunfire");
+                break;
+            case ZEALOT:
+                scenario.zealot = parseBoolean(value, "zealot");
+                break;
+            default:
+                scenario.boneCounts[field - BONE_FIELD] =
+                        parseNonNegative(value, BONE_TYPES[field - BONE_FIELD].name());
+                break;
+        }
+    }
+
+    private static int parseNonNegative(String value, String name) {
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(name + " must be a non-negative integer: " + value);
+    }
+
+    private static boolean parseBoolean(String value, String name) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "yes":
+            case "1":
+                return true;
+            case "false":
+            case "no":
+            case "0":
+                return false;
+            default:
+                throw new IllegalArgumentException(name + " must be true or false: " + value);
+        }
+    }
+
+    private int[] parseCsvHeader(String line) {
+        splitCsv(line);
+        int[] columns = new int[fields.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = resolveField(fields.get(i));
+        }
+        return columns;
+    }
+
+    private void readCsv(String line) {
+        splitCsv(line);
+        // The known columns are read first so the error record still carries the row's id
+        for (int i = 0; i < Math.min(fields.size(), csvColumns.length); i++) {
+            setField(csvColumns[i], fields.get(i).trim());
+        }
+        if (fields.size() > csvColumns.length) {
+            throw new IllegalArgumentException("Row has more columns than the header");
+        }
+    }
+
+    private void splitCsv(String line) {
+        // RFC 4180 quoting within a single line
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+    }
+
+    private void readJson(String line) {
+        // Flat objects only: string, number, boolean and null values
+        int[] position = { skipWhitespace(line, 0) };
+        expect(line, position, '{');
+        if (peek(line, position) == '}') {
+            return;
+        }
+
+        while (true) {
+            String key = readJsonString(line, position);
+            expect(line, position, ':');
+            String value = peek(line, position) == '"' ? readJsonString(line, position)
+                    : readJsonLiteral(line, position);
+            setField(resolveField(key), value);
+
+            char next = peek(line, position);
+            position[0] = skipWhitespace(line, position[0] + 1);
+            if (next == '}') {
+                return;
+            }
+            if (next != ',') {
+                throw new IllegalArgumentException("Malformed JSON at column " + position[0]);
+            }
+        }
+    }
+
+    private static char peek(String line, int[] position) {
+        position[0] = skipWhitespace(line, position[0]);
+        if (position[0] >= line.length()) {
+            throw new IllegalArgumentException("Unexpected end of JSON line");
+        }
+        return line.charAt(position[0]);
+    }
+
+    private static void expect(String line, int[] position, char expected) {
+        if (peek(line, position) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at column " + (position[0] + 1));
+        }
+        position[0] = skipWhitespace(line, position[0] + 1);
+    }
+
+    private static String readJsonString(String line, int[] position) {
+        expectNoSkip(line, position, '"');
+        StringBuilder value = new StringBuilder();
+        while (position[0] < line.length()) {
+            char c = line.charAt(position[0]++);
+            if (c == '"') {
+                position[0] = skipWhitespace(line, position[0]);
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+
+            if (position[0] >= line.length()) {
+                break;
+            }
+            char escaped = line.charAt(position[0]++);
+            switch (escaped) {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'u':
+                    if (position[0] + 4 > line.length()) {
+                        throw new IllegalArgumentException("Malformed JSON unicode escape");
+                    }
+                    value.append((char) Integer.parseInt(line.substring(position[0], position[0] + 4), 16));
+                    position[0] += 4;
+                    break;
+                default:
+                    value.append(escaped);
+                    break;
+            }
+        }
+        throw new IllegalArgumentException("Unterminated JSON string");
+    }
+
+    private static void expectNoSkip(String line, int[] position, char expected) {
+        if (position[0] >= line.length() || line.charAt(position[0]) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at column " + (position[0] + 1));
+        }
+        position[0]++;
+    }
+
+    private static String readJsonLiteral(String line, int[] position) {
+        int start = position[0];
+        while (position[0] < line.length() && line.charAt(position[0]) != ','
+                && line.charAt(position[0]) != '}') {
+            position[0]++;
+        }
+        if (position[0] >= line.length()) {
+            throw new IllegalArgumentException("Unexpected end of JSON line");
+        }
+        return line.substring(start, position[0]).trim();
+    }
+
+    private static int skipWhitespace(String line, int position) {
+        while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private void writeResult(Writer out, CalculationResultSnapshot result) throws IOException {
+        String[] values = {
+                scenario.id,
+                String.valueOf(result.getRequiredShards()),
+                String.valueOf(result.getTotalAvailableShards()),
+                String.valueOf(result.getShardShortage()),
+                String.valueOf(result.getWinesNeeded()),
+                String.valueOf(result.getAchievableLevel()),
+                String.valueOf(result.getRemainingXP()),
+                String.valueOf(result.isGoalAlreadyAchieved()),
+                null
+        };
+        writeRecord(out, values);
+    }
+
+    private void writeError(Writer out, String message) throws IOException {
+        String[] values = new String[OUTPUT_FIELDS.length];
+        values[0] = scenario.id;
+        values[OUTPUT_FIELDS.length - 1] = message;
+        writeRecord(out, values);
+    }
+
+    private void writeRecord(Writer out, String[] values) throws IOException {
+        if (!jsonOutput) {
+            writeCsvRow(out, values);
+            return;
+        }
+
+        out.write('{');
+        boolean first = true;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+
+            writeJsonString(out, OUTPUT_FIELDS[i]);
+            out.write(':');
+            // Everything except the id and error message is a number or boolean
+            if (i == 0 || i == OUTPUT_FIELDS.length - 1) {
+                writeJsonString(out, values[i]);
+            } else {
+                out.write(values[i]);
+            }
+        }
+        out.write("}\n");
+    }
+
+    private static void writeJsonString(Writer out, String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.write(String.format("\\u%04x", (int) c));
+            } else {
+                out.write(c);
+            }
+        }
+        out.write('"');
+    }
+
+    private static void writeCsvRow(Writer out, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+
+            String value = values[i] == null ? "" : values[i];
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+        out.write('\n');
+    }
+
+    private static final class Scenario {
+        private String id;
+        private int currentXP;
+        private int currentLevel;
+        private int targetXP;
+        private int targetLevel;
+        private boolean sunfire;
+        private boolean zealot;
+        private final int[] boneCounts = new int[BONE_TYPES.length];
+
+        private void reset() {
+            id = "";
+            currentXP = -1;
+            currentLevel = -1;
+            targetXP = -1;
+            targetLevel = -1;
+            sunfire = false;
+            zealot = false;
+            Arrays.fill(boneCounts, 0);
+        }
+    }
+}
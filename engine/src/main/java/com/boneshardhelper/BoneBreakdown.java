@@ -0,0 +1,98 @@
+package com.boneshardhelper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Immutable per-BoneType counts with the shard total worked out once at construction,
+// so it can be read from any thread without defensive copies.
+public final class BoneBreakdown {
+
+    private static final BoneType[] BONE_TYPES = BoneType.values();
+
+    public static final BoneBreakdown EMPTY = new BoneBreakdown(new int[BONE_TYPES.length]);
+
+    // Counts keyed by BoneType ordinal
+    private final int[] counts;
+    private final int totalShards;
+    private final Map<BoneType, Integer> asMap;
+
+    private BoneBreakdown(int[] counts) {
+        this.counts = counts;
+
+        int shards = 0;
+        Map<BoneType, Integer> map = new EnumMap<>(BoneType.class);
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            if (counts[ordinal] != 0) {
+                shards += BONE_TYPES[ordinal].getShardValue() * counts[ordinal];
+                map.put(BONE_TYPES[ordinal], counts[ordinal]);
+            }
+        }
+        this.totalShards = shards;
+        this.asMap = Collections.unmodifiableMap(map);
+    }
+
+    public static BoneBreakdown of(Map<BoneType, Integer> bones) {
+        if (bones == null || bones.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] counts = new int[BONE_TYPES.length];
+        for (Map.Entry<BoneType, Integer> entry : bones.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                counts[entry.getKey().ordinal()] += entry.getValue();
+            }
+        }
+        return new BoneBreakdown(counts);
+    }
+
+    public static BoneBreakdown ofCounts(int[] countsByOrdinal) {
+        // Copies the array so the caller can keep reusing it
+        return new BoneBreakdown(Arrays.copyOf(countsByOrdinal, BONE_TYPES.length));
+    }
+
+    public int getCount(BoneType boneType) {
+        return counts[boneType.ordinal()];
+    }
+
+    public int getTotalShards() {
+        return totalShards;
+    }
+
+    public boolean isEmpty() {
+        return asMap.isEmpty();
+    }
+
+    public int getTypeCount() {
+        return asMap.size();
+    }
+
+    public Map<BoneType, Integer> asMap() {
+        return asMap;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoneBreakdown)) {
+            return false;
+        }
+        return Arrays.equals(counts, ((BoneBreakdown) o).counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "BoneBreakdown{" +
+                "types=" + asMap.size() +
+                ", totalShards=" + totalShards +
+                '}';
+    }
+}
@@ -0,0 +1,251 @@
+package com.boneshardhelper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// All blessed bone types and their corresponding shard values
+public enum BoneType {
+    BLESSED_BONE_SHARDS(1, 29381), // No base item for bone shards
+    BLESSED_BONE_STATUETTE0(125, 29338), // Variations of blessed bone statuette
+    BLESSED_BONE_STATUETTE1(125, 29339),
+    BLESSED_BONE_STATUETTE2(125, 29340),
+    BLESSED_BONE_STATUETTE3(125, 29342),
+    BLESSED_BONE_STATUETTE4(125, 29343),
+    SUPERIOR_DRAGON_BONES(121, 22124),
+    OURG_BONES(115, 4834),
+    DAGANNOTH_BONES(100, 6729),
+    HYDRA_BONES(93, 22786),
+    FROST_DRAGON_BONES(84, 31729),
+    RAURG_BONES(77, 4832),
+    LAVA_DRAGON_BONES(68, 11943),
+    DRAKE_BONES(67, 22783),
+    FAYRG_BONES(67, 4830),
+    DRAGON_BONES(58, 536),
+    WYVERN_BONES(58, 6812),
+    SUN_KISSED_BONES(45, 29380),
+    WYRM_BONES(42, 22780),
+    STRYKEWYRM_BONES(37, 31726),
+    BABYDRAGON_BONES(24, 534),
+    BABYWYRM_BONES(21, 28899), // Wyrmling bones
+    WYRMLING_BONES(21, 28899),
+    ZOGRE_BONES(18, 4812),
+    BIG_BONES(12, 532),
+    BAT_BONES(5, 530),
+    BONES(4, 526),
+    BLESSED_BONES(4, 29344),
+    BLESSED_BAT_BONES(5, 29346),
+    BLESSED_BIG_BONES(12, 29348),
+    BLESSED_BABYDRAGON_BONES(24, 29352),
+    BLESSED_DRAGON_BONES(58, 29356),
+    BLESSED_WYVERN_BONES(58, 29360),
+    BLESSED_DRAKE_BONES(67, 29366),
+    BLESSED_FAYRG_BONES(67, 29370),
+    BLESSED_LAVA_DRAGON_BONES(68, 29358),
+    BLESSED_RAURG_BONES(77, 29372),
+    BLESSED_DAGANNOTH_BONES(100, 29376),
+    BLESSED_OURG_BONES(115, 29374),
+    BLESSED_SUPERIOR_DRAGON_BONES(121, 29362),
+    BLESSED_BABYWYRM_BONES(21, 29354), // Wyrmling bones
+    BLESSED_WYRM_BONES(42, 29364),
+    BLESSED_HYDRA_BONES(93, 29368),
+    BLESSED_FROST_DRAGON_BONES(84, 31266),
+    BLESSED_STRYKEWYRM_BONES(37, 31264),
+    BLESSED_ZOGRE_BONES(18, 29350);
+
+    private final int shardValue;
+    private final int baseItemId;
+
+    // Per-ordinal metadata, built once when the enum is initialised
+    private static final Metadata[] METADATA;
+
+    // Consolidated types (bone shards excluded), highest shard value first; ties keep declaration order
+    private static final BoneType[] CONSOLIDATED_BY_RANK;
+
+    static {
+        BoneType[] types = values();
+
+        // Unblessed bones and statuette variations are shown and counted as one consolidated type
+        BoneType[] consolidated = types.clone();
+        consolidate(consolidated, BONES, BLESSED_BONES);
+        consolidate(consolidated, BAT_BONES, BLESSED_BAT_BONES);
+        consolidate(consolidated, BIG_BONES, BLESSED_BIG_BONES);
+        consolidate(consolidated, BABYDRAGON_BONES, BLESSED_BABYDRAGON_BONES);
+        consolidate(consolidated, DRAGON_BONES, BLESSED_DRAGON_BONES);
+        consolidate(consolidated, WYVERN_BONES, BLESSED_WYVERN_BONES);
+        consolidate(consolidated, DRAKE_BONES, BLESSED_DRAKE_BONES);
+        consolidate(consolidated, FAYRG_BONES, BLESSED_FAYRG_BONES);
+        consolidate(consolidated, LAVA_DRAGON_BONES, BLESSED_LAVA_DRAGON_BONES);
+        consolidate(consolidated, RAURG_BONES, BLESSED_RAURG_BONES);
+        consolidate(consolidated, DAGANNOTH_BONES, BLESSED_DAGANNOTH_BONES);
+        consolidate(consolidated, OURG_BONES, BLESSED_OURG_BONES);
+        consolidate(consolidated, SUPERIOR_DRAGON_BONES, BLESSED_SUPERIOR_DRAGON_BONES);
+        consolidate(consolidated, BABYWYRM_BONES, BLESSED_BABYWYRM_BONES);
+        consolidate(consolidated, WYRMLING_BONES, BLESSED_BABYWYRM_BONES);
+        consolidate(consolidated, WYRM_BONES, BLESSED_WYRM_BONES);
+        consolidate(consolidated, HYDRA_BONES, BLESSED_HYDRA_BONES);
+        consolidate(consolidated, ZOGRE_BONES, BLESSED_ZOGRE_BONES);
+        consolidate(consolidated, FROST_DRAGON_BONES, BLESSED_FROST_DRAGON_BONES);
+        consolidate(consolidated, STRYKEWYRM_BONES, BLESSED_STRYKEWYRM_BONES);
+        consolidate(consolidated, BLESSED_BONE_STATUETTE1, BLESSED_BONE_STATUETTE0);
+        consolidate(consolidated, BLESSED_BONE_STATUETTE2, BLESSED_BONE_STATUETTE0);
+        consolidate(consolidated, BLESSED_BONE_STATUETTE3, BLESSED_BONE_STATUETTE0);
+        consolidate(consolidated, BLESSED_BONE_STATUETTE4, BLESSED_BONE_STATUETTE0);
+
+        // Icons use the unblessed bone where there is one, since blessed bones share its sprite
+        int[] iconItemIds = new int[types.length];
+        for (BoneType boneType : types) {
+            iconItemIds[boneType.ordinal()] = boneType.baseItemId;
+        }
+        for (int ordinal = types.length - 1; ordinal >= 0; ordinal--) {
+            BoneType boneType = types[ordinal];
+            if (consolidated[ordinal] != boneType && !boneType.name().startsWith("BLESSED_")) {
+                iconItemIds[consolidated[ordinal].ordinal()] = boneType.baseItemId;
+            }
+        }
+
+        // Rank the distinct consolidated types by shard value (stable, so ties keep declaration order)
+        List<BoneType> ranked = new ArrayList<>();
+        for (BoneType boneType : types) {
+            BoneType target = consolidated[boneType.ordinal()];
+            if (target != BLESSED_BONE_SHARDS && !ranked.contains(target)) {
+                ranked.add(target);
+            }
+        }
+        ranked.sort(Comparator.comparingInt(BoneType::getShardValue).reversed());
+        CONSOLIDATED_BY_RANK = ranked.toArray(new BoneType[0]);
+
+        METADATA = new Metadata[types.length];
+        for (BoneType boneType : types) {
+            BoneType target = consolidated[boneType.ordinal()];
+            // Only unblessed bones have a noted item, one ID above the unnoted one
+            boolean notable = boneType.baseItemId > 0 && !boneType.name().startsWith("BLESSED_")
+                    && boneType != SUN_KISSED_BONES;
+            METADATA[boneType.ordinal()] = new Metadata(target, buildDisplayName(boneType),
+                    iconItemIds[target.ordinal()], notable ? boneType.baseItemId + 1 : -1, ranked.indexOf(target));
+        }
+    }
+
+    BoneType(int shardValue, int baseItemId) {
+        this.shardValue = shardValue;
+        this.baseItemId = baseItemId;
+    }
+
+    private static void consolidate(BoneType[] consolidated, BoneType from, BoneType to) {
+        consolidated[from.ordinal()] = to;
+    }
+
+    public int getShardValue() {
+        return shardValue;
+    }
+
+    public int getBaseItemId() {
+        // Gets the base (unblessed) item ID for this bone type.
+        return baseItemId;
+    }
+
+    public boolean hasBaseItem() {
+        // Some bone types don't have blessed versions so we gotta check it
+        return baseItemId > 0;
+    }
+
+    public Metadata getMetadata() {
+        return METADATA[ordinal()];
+    }
+
+    public BoneType getConsolidatedType() {
+        return METADATA[ordinal()].consolidatedType;
+    }
+
+    public String getDisplayName() {
+        return METADATA[ordinal()].displayName;
+    }
+
+    public static int getConsolidatedTypeCount() {
+        return CONSOLIDATED_BY_RANK.length;
+    }
+
+    public static BoneType getConsolidatedTypeByRank(int rank) {
+        // Rank 0 is the consolidated type worth the most shards
+        return CONSOLIDATED_BY_RANK[rank];
+    }
+
+    private static String buildDisplayName(BoneType boneType) {
+        // Special case for blessed bone statuette (consolidated display)
+        if (boneType.name().startsWith("BLESSED_BONE_STATUETTE")) {
+            return "Blessed Bone Statuette";
+        }
+
+        // Special case for blessed bone shards
+        if (boneType == BLESSED_BONE_SHARDS) {
+            return "Bone Shards";
+        }
+
+        // Special case for sun-kissed bones
+        if (boneType == SUN_KISSED_BONES) {
+            return "Sun-kissed Bones";
+        }
+
+        String name = boneType.name().toLowerCase()
+                .replace("_", " ")
+                .replace("blessed ", ""); // Remove "blessed" prefix for clean display
+
+        // Capitalize first letter of each word
+        StringBuilder result = new StringBuilder();
+        boolean capitalizeNext = true;
+
+        for (char c : name.toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                capitalizeNext = true;
+                result.append(c);
+            } else if (capitalizeNext) {
+                result.append(Character.toUpperCase(c));
+                capitalizeNext = false;
+            } else {
+                result.append(c);
+            }
+        }
+
+        return result.toString();
+    }
+
+    // Everything the plugin needs to know about a bone type besides its shard value and item ID
+    public static final class Metadata {
+        private final BoneType consolidatedType;
+        private final String displayName;
+        private final int iconItemId;
+        private final int notedItemId;
+        private final int shardRank;
+
+        private Metadata(BoneType consolidatedType, String displayName, int iconItemId, int notedItemId,
+                int shardRank) {
+            this.consolidatedType = consolidatedType;
+            this.displayName = displayName;
+            this.iconItemId = iconItemId;
+            this.notedItemId = notedItemId;
+            this.shardRank = shardRank;
+        }
+
+        public BoneType getConsolidatedType() {
+            return consolidatedType;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public int getIconItemId() {
+            return iconItemId;
+        }
+
+        public int getNotedItemId() {
+            // -1 when the bone can't be noted
+            return notedItemId;
+        }
+
+        public int getShardRank() {
+            // Position of the consolidated type in shard value order (0 = most shards); -1 for bone shards
+            return shardRank;
+        }
+    }
+}
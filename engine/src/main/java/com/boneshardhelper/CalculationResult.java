@@ -7,7 +7,7 @@ public class CalculationResult {
     private int requiredShards;
     private int achievableLevel;
     private int totalAvailableShards;
-    private Map<BoneType, Integer> boneBreakdown;
+    private BoneBreakdown boneBreakdown;
     private int remainingXP;
     private int totalXPGain;
     private boolean hasEnoughResources;
@@ -19,7 +19,7 @@ public class CalculationResult {
         this.requiredShards = 0;
         this.achievableLevel = 1;
         this.totalAvailableShards = 0;
-        this.boneBreakdown = new HashMap<>();
+        this.boneBreakdown = BoneBreakdown.EMPTY;
         this.remainingXP = 0;
         this.totalXPGain = 0;
         this.hasEnoughResources = false;
@@ -32,7 +32,7 @@ public class CalculationResult {
         this.requiredShards = requiredShards;
         this.achievableLevel = achievableLevel;
         this.totalAvailableShards = totalAvailableShards;
-        this.boneBreakdown = new HashMap<>();
+        this.boneBreakdown = BoneBreakdown.EMPTY;
         this.remainingXP = 0;
         this.totalXPGain = 0;
         this.hasEnoughResources = totalAvailableShards >= requiredShards;
@@ -45,7 +45,7 @@ public class CalculationResult {
         this.requiredShards = requiredShards;
         this.achievableLevel = achievableLevel;
         this.totalAvailableShards = totalAvailableShards;
-        this.boneBreakdown = new HashMap<>();
+        this.boneBreakdown = BoneBreakdown.EMPTY;
         this.remainingXP = 0;
         this.totalXPGain = 0;
         this.hasEnoughResources = totalAvailableShards >= requiredShards;
@@ -82,11 +82,15 @@ public class CalculationResult {
     }
 
     public Map<BoneType, Integer> getBoneBreakdown() {
-        return new HashMap<>(boneBreakdown);
+        return new HashMap<>(boneBreakdown.asMap());
     }
 
     public void setBoneBreakdown(Map<BoneType, Integer> boneBreakdown) {
-        this.boneBreakdown = new HashMap<>(boneBreakdown);
+        this.boneBreakdown = BoneBreakdown.of(boneBreakdown);
+    }
+
+    public BoneBreakdown getBones() {
+        return boneBreakdown;
     }
 
     public int getRemainingXP() {
@@ -163,7 +167,7 @@ public class CalculationResult {
                 "requiredShards=" + requiredShards +
                 ", achievableLevel=" + achievableLevel +
                 ", totalAvailableShards=" + totalAvailableShards +
-                ", boneTypes=" + boneBreakdown.size() +
+                ", boneTypes=" + boneBreakdown.getTypeCount() +
                 ", remainingXP=" + remainingXP +
                 ", totalXPGain=" + totalXPGain +
                 ", hasEnoughResources=" + hasEnoughResources +
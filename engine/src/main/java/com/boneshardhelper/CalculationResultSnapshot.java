@@ -0,0 +1,112 @@
+package com.boneshardhelper;
+
+// Immutable engine result. Cached results are shared as-is between callers and threads.
+public final class CalculationResultSnapshot {
+    private final int requiredShards;
+    private final int achievableLevel;
+    private final int totalAvailableShards;
+    private final BoneBreakdown boneBreakdown;
+    private final int remainingXP;
+    private final int totalXPGain;
+    private final int xpPerShard;
+    private final boolean goalAlreadyAchieved;
+    private final int winesNeeded;
+
+    public CalculationResultSnapshot(int requiredShards, int achievableLevel, int totalAvailableShards,
+            BoneBreakdown boneBreakdown, int remainingXP, int totalXPGain, int xpPerShard,
+            boolean goalAlreadyAchieved, int winesNeeded) {
+        this.requiredShards = requiredShards;
+        this.achievableLevel = achievableLevel;
+        this.totalAvailableShards = totalAvailableShards;
+        this.boneBreakdown = boneBreakdown != null ? boneBreakdown : BoneBreakdown.EMPTY;
+        this.remainingXP = remainingXP;
+        this.totalXPGain = totalXPGain;
+        this.xpPerShard = xpPerShard;
+        this.goalAlreadyAchieved = goalAlreadyAchieved;
+        this.winesNeeded = winesNeeded;
+    }
+
+    public int getRequiredShards() {
+        return requiredShards;
+    }
+
+    public int getAchievableLevel() {
+        return achievableLevel;
+    }
+
+    public int getTotalAvailableShards() {
+        return totalAvailableShards;
+    }
+
+    public BoneBreakdown getBoneBreakdown() {
+        return boneBreakdown;
+    }
+
+    public int getRemainingXP() {
+        return remainingXP;
+    }
+
+    public int getTotalXPGain() {
+        return totalXPGain;
+    }
+
+    public boolean hasEnoughResources() {
+        return totalAvailableShards >= requiredShards;
+    }
+
+    public int getXpPerShard() {
+        return xpPerShard;
+    }
+
+    public boolean isGoalAlreadyAchieved() {
+        return goalAlreadyAchieved;
+    }
+
+    public int getWinesNeeded() {
+        return winesNeeded;
+    }
+
+    public int getShardShortage() {
+        return Math.max(0, requiredShards - totalAvailableShards);
+    }
+
+    public int getExcessShards() {
+        return Math.max(0, totalAvailableShards - requiredShards);
+    }
+
+    public CalculationResultSnapshot withBoneBreakdown(BoneBreakdown bones) {
+        // Results are cached on the shard total alone, so re-attach the caller's own breakdown
+        if (bones == boneBreakdown) {
+            return this;
+        }
+        return new CalculationResultSnapshot(requiredShards, achievableLevel, totalAvailableShards, bones,
+                remainingXP, totalXPGain, xpPerShard, goalAlreadyAchieved, winesNeeded);
+    }
+
+    public CalculationResult toCalculationResult() {
+        // Mutable copy for existing callers
+        CalculationResult result = new CalculationResult(requiredShards, achievableLevel, totalAvailableShards,
+                xpPerShard);
+        result.setBoneBreakdown(boneBreakdown.asMap());
+        result.setRemainingXP(remainingXP);
+        result.setTotalXPGain(totalXPGain);
+        result.setGoalAlreadyAchieved(goalAlreadyAchieved);
+        result.setWinesNeeded(winesNeeded);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CalculationResultSnapshot{" +
+                "requiredShards=" + requiredShards +
+                ", achievableLevel=" + achievableLevel +
+                ", totalAvailableShards=" + totalAvailableShards +
+                ", boneTypes=" + boneBreakdown.getTypeCount() +
+                ", remainingXP=" + remainingXP +
+                ", totalXPGain=" + totalXPGain +
+                ", xpPerShard=" + xpPerShard +
+                ", goalAlreadyAchieved=" + goalAlreadyAchieved +
+                ", winesNeeded=" + winesNeeded +
+                '}';
+    }
+}
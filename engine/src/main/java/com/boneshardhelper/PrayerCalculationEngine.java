@@ -0,0 +1,449 @@
+package com.boneshardhelper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PrayerCalculationEngine {
+
+    // Number of distinct scenarios kept in the result cache
+    private static final int RESULT_CACHE_SIZE = 64;
+
+    // Bounded LRU of previous results, keyed on the normalized inputs that affect the outcome.
+    // Guarded by its own monitor so one engine can be shared between both modes; the results
+    // themselves are immutable and handed out without copying. The mode is part of the key since
+    // the two modes produce different results for the same inputs, so they never share an entry.
+    private final Map<CacheKey, CalculationResultSnapshot> resultCache =
+            new LinkedHashMap<CacheKey, CalculationResultSnapshot>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, CalculationResultSnapshot> eldest) {
+                    return size() > RESULT_CACHE_SIZE;
+                }
+            };
+
+    // Lookups answered from and missing the cache, guarded by the resultCache monitor
+    private long cacheHits;
+    private long cacheMisses;
+
+    public CalculationResult calculateForTarget(PrayerData prayerData) {
+        if (prayerData == null) {
+            throw new IllegalArgumentException("Prayer data cannot be null");
+        }
+
+        return calculateForTarget(prayerData.snapshot()).toCalculationResult();
+    }
+
+    public CalculationResultSnapshot calculateForTarget(PrayerDataSnapshot prayerData) {
+        if (prayerData == null) {
+            throw new IllegalArgumentException("Prayer data cannot be null");
+        }
+
+        validatePrayerData(prayerData);
+
+        CacheKey key = CacheKey.forTarget(prayerData);
+        CalculationResultSnapshot cached = getCachedResult(key);
+        if (cached != null) {
+            return cached.withBoneBreakdown(prayerData.getAvailableBones());
+        }
+
+        CalculationResultSnapshot result = computeForTarget(prayerData);
+        cacheResult(key, result);
+        return result;
+    }
+
+    private CalculationResultSnapshot computeForTarget(PrayerDataSnapshot prayerData) {
+        int currentLevel = prayerData.getCurrentLevel();
+        int targetLevel = prayerData.getTargetLevel();
+        double xpPerShard = prayerData.getXPPerShard(); // Changed to double for zealot robes support
+
+        // Calculate required XP for target (either from target level or target XP)
+        int currentXP = prayerData.getCurrentXP();
+        int targetXP;
+
+        // Use target XP if set, otherwise calculate from target level
+        if (prayerData.getTargetXP() > 0) {
+            targetXP = prayerData.getTargetXP();
+        } else {
+            targetXP = PrayerConstants.getXPForLevel(targetLevel);
+        }
+
+        int requiredXP = targetXP - currentXP;
+
+        // Check if goal is already achieved
+        boolean goalAlreadyAchieved;
+        if (prayerData.getTargetXP() > 0) {
+            goalAlreadyAchieved = currentXP >= targetXP;
+        } else {
+            goalAlreadyAchieved = currentLevel >= targetLevel;
+        }
+
+        // Calculate required shards
+        int requiredShards = goalAlreadyAchieved ? 0 : (int) Math.ceil((double) requiredXP / xpPerShard);
+
+        // Get available resources
+        int totalAvailableShards = prayerData.getTotalAvailableShards();
+
+        // Calculate achievable level with available resources
+        int achievableLevel = calculateAchievableLevelFromShardsWithXP(prayerData.getCurrentXP(), totalAvailableShards,
+                xpPerShard);
+
+        // Calculate wine information using the corrected 400 shards per wine formula
+        int winesNeeded = calculateWinesNeeded(requiredShards);
+
+        // XP per shard is tracked as an int for display
+        return new CalculationResultSnapshot(requiredShards, achievableLevel, totalAvailableShards,
+                prayerData.getAvailableBones(), goalAlreadyAchieved ? 0 : requiredXP,
+                goalAlreadyAchieved ? 0 : requiredXP, (int) Math.round(xpPerShard), goalAlreadyAchieved, winesNeeded);
+    }
+
+    public CalculationResult calculateFromResources(PrayerData prayerData) {
+        if (prayerData == null) {
+            throw new IllegalArgumentException("Prayer data cannot be null");
+        }
+
+        return calculateFromResources(prayerData.snapshot()).toCalculationResult();
+    }
+
+    public CalculationResultSnapshot calculateFromResources(PrayerDataSnapshot prayerData) {
+        if (prayerData == null) {
+            throw new IllegalArgumentException("Prayer data cannot be null");
+        }
+
+        validatePrayerData(prayerData);
+
+        CacheKey key = CacheKey.forResources(prayerData);
+        CalculationResultSnapshot cached = getCachedResult(key);
+        if (cached != null) {
+            return cached.withBoneBreakdown(prayerData.getAvailableBones());
+        }
+
+        CalculationResultSnapshot result = computeFromResources(prayerData);
+        cacheResult(key, result);
+        return result;
+    }
+
+    private CalculationResultSnapshot computeFromResources(PrayerDataSnapshot prayerData) {
+        int currentLevel = prayerData.getCurrentLevel();
+        double xpPerShard = prayerData.getXPPerShard(); // Changed to double for zealot robes support
+        int totalAvailableShards = prayerData.getTotalAvailableShards();
+
+        // Calculate achievable level
+        int achievableLevel = calculateAchievableLevelFromShardsWithXP(prayerData.getCurrentXP(), totalAvailableShards,
+                xpPerShard);
+
+        // Calculate XP gain
+        int currentXP = prayerData.getCurrentXP();
+        int achievableXP = PrayerConstants.getXPForLevel(achievableLevel);
+        int totalXPGain = achievableXP - currentXP;
+
+        // If we can't reach the next level, calculate remaining XP needed (there is none past the max level)
+        int remainingXP = 0;
+        if (achievableLevel == currentLevel && currentLevel < PrayerConstants.MAX_PRAYER_LEVEL) {
+            int nextLevelXP = PrayerConstants.getXPForLevel(currentLevel + 1);
+            double availableXP = totalAvailableShards * xpPerShard;
+            remainingXP = (int) Math.max(0, nextLevelXP - currentXP - availableXP);
+        }
+
+        int winesNeeded = calculateWinesNeeded(totalAvailableShards);
+
+        // Resource mode doesn't have a specific goal; XP per shard is tracked as an int for display
+        return new CalculationResultSnapshot(0, achievableLevel, totalAvailableShards, prayerData.getAvailableBones(),
+                remainingXP, totalXPGain, (int) Math.round(xpPerShard), false, winesNeeded);
+    }
+
+    public int calculateRequiredShards(int requiredXP, double xpPerShard) {
+        if (requiredXP <= 0) {
+            return 0;
+        }
+        if (xpPerShard <= 0) {
+            throw new IllegalArgumentException("XP per shard must be positive");
+        }
+
+        return (int) Math.ceil((double) requiredXP / xpPerShard);
+    }
+
+    public void calculateRequiredShards(int[] currentXPs, int targetXP, double xpPerShard, int[] requiredShards) {
+        // Shards from each current XP to one shared target, with the same rounding as the single-value version
+        if (currentXPs == null || requiredShards == null || requiredShards.length < currentXPs.length) {
+            throw new IllegalArgumentException("Output array must hold a result for every current XP");
+        }
+        if (xpPerShard <= 0) {
+            throw new IllegalArgumentException("XP per shard must be positive");
+        }
+
+        for (int i = 0; i < currentXPs.length; i++) {
+            int requiredXP = targetXP - currentXPs[i];
+            requiredShards[i] = requiredXP <= 0 ? 0 : (int) Math.ceil((double) requiredXP / xpPerShard);
+        }
+    }
+
+    public int calculateAchievableLevelFromShards(int currentLevel, int availableShards, double xpPerShard) {
+        if (availableShards <= 0) {
+            return currentLevel;
+        }
+
+        int currentXP = PrayerConstants.getXPForLevel(currentLevel);
+        double availableXP = availableShards * xpPerShard;
+        int totalXP = (int) (currentXP + availableXP);
+
+        return PrayerConstants.getLevelForXP(totalXP);
+    }
+
+    public int calculateAchievableLevelFromShardsWithXP(int currentXP, int availableShards, double xpPerShard) {
+        if (availableShards <= 0) {
+            return PrayerConstants.getLevelForXP(currentXP);
+        }
+
+        double availableXP = availableShards * xpPerShard;
+        int totalXP = (int) (currentXP + availableXP);
+
+        return PrayerConstants.getLevelForXP(totalXP);
+    }
+
+    public int calculateXPDifference(int fromLevel, int toLevel) {
+        return PrayerConstants.getXPDifference(fromLevel, toLevel);
+    }
+
+    public int calculateTotalShards(Map<BoneType, Integer> boneBreakdown) {
+        if (boneBreakdown == null || boneBreakdown.isEmpty()) {
+            return 0;
+        }
+
+        int total = 0;
+        for (Map.Entry<BoneType, Integer> entry : boneBreakdown.entrySet()) {
+            total += entry.getKey().getShardValue() * entry.getValue();
+        }
+        return total;
+    }
+
+    public int calculateXPFromShards(int shards, double xpPerShard) {
+        if (shards < 0) {
+            throw new IllegalArgumentException("Shards cannot be negative");
+        }
+        if (xpPerShard <= 0) {
+            throw new IllegalArgumentException("XP per shard must be positive");
+        }
+
+        return (int) (shards * xpPerShard);
+    }
+
+    public int calculateShardsForNextLevel(int currentLevel, double xpPerShard) {
+        if (currentLevel >= PrayerConstants.MAX_PRAYER_LEVEL) {
+            return 0;
+        }
+
+        int currentXP = PrayerConstants.getXPForLevel(currentLevel);
+        int nextLevelXP = PrayerConstants.getXPForLevel(currentLevel + 1);
+        int requiredXP = nextLevelXP - currentXP;
+
+        return calculateRequiredShards(requiredXP, xpPerShard);
+    }
+
+    public int calculateShardsForNextLevelFromXP(int currentXP, double xpPerShard) {
+        int currentLevel = PrayerConstants.getLevelForXP(currentXP);
+        if (currentLevel >= PrayerConstants.MAX_PRAYER_LEVEL) {
+            return 0;
+        }
+
+        int nextLevelXP = PrayerConstants.getXPForLevel(currentLevel + 1);
+        int requiredXP = nextLevelXP - currentXP;
+
+        return calculateRequiredShards(requiredXP, xpPerShard);
+    }
+
+    public int calculateWinesNeeded(int totalShards) {
+        if (totalShards < 0) {
+            throw new IllegalArgumentException("Total shards cannot be negative");
+        }
+
+        if (totalShards == 0) {
+            return 0;
+        }
+
+        return (int) Math.ceil((double) totalShards / PrayerConstants.SHARDS_PER_WINE);
+    }
+
+    public SupplyAnalysis analyzeSupplies(int availableShards, int[] supplyCounts, boolean useSunfireWine) {
+        // supplyCounts is indexed by WineSupply ordinal. Regular wine runs count jugs of wine and blessed wines;
+        // sunfire runs count ready sunfire wines, blessed or not, plus the jugs the splinters on hand can convert.
+        if (availableShards < 0) {
+            throw new IllegalArgumentException("Available shards cannot be negative");
+        }
+        if (supplyCounts == null) {
+            throw new IllegalArgumentException("Supply counts cannot be null");
+        }
+        if (supplyCounts.length != WineSupply.getCount()) {
+            throw new IllegalArgumentException("Supply counts must hold a count for every wine supply");
+        }
+
+        int winesNeeded = calculateWinesNeeded(availableShards);
+        int jugs = supplyCounts[WineSupply.JUG_OF_WINE.ordinal()];
+
+        if (!useSunfireWine) {
+            int wines = jugs + supplyCounts[WineSupply.BLESSED_WINE.ordinal()];
+            return new SupplyAnalysis(availableShards, wines, winesNeeded, 0,
+                    wines >= winesNeeded ? SupplyAnalysis.Bottleneck.SHARDS : SupplyAnalysis.Bottleneck.WINES);
+        }
+
+        int splinters = supplyCounts[WineSupply.SUNFIRE_SPLINTERS.ordinal()];
+        int convertible = Math.min(jugs, splinters / PrayerConstants.SPLINTERS_PER_SUNFIRE_WINE);
+        int wines = supplyCounts[WineSupply.SUNFIRE_WINE.ordinal()]
+                + supplyCounts[WineSupply.BLESSED_SUNFIRE_WINE.ordinal()] + convertible;
+        if (wines >= winesNeeded) {
+            return new SupplyAnalysis(availableShards, wines, winesNeeded, 0, SupplyAnalysis.Bottleneck.SHARDS);
+        }
+
+        // Splinters still needed to convert every missing wine, counting any left over from the conversion
+        int winesShort = winesNeeded - wines;
+        int spareSplinters = splinters - convertible * PrayerConstants.SPLINTERS_PER_SUNFIRE_WINE;
+        int splintersShort = Math.max(0, winesShort * PrayerConstants.SPLINTERS_PER_SUNFIRE_WINE - spareSplinters);
+
+        // Jugs left unconverted mean the splinters ran out before the wine did
+        SupplyAnalysis.Bottleneck bottleneck = jugs > convertible
+                ? SupplyAnalysis.Bottleneck.SPLINTERS : SupplyAnalysis.Bottleneck.WINES;
+        return new SupplyAnalysis(availableShards, wines, winesNeeded, splintersShort, bottleneck);
+    }
+
+    public long getCacheHits() {
+        synchronized (resultCache) {
+            return cacheHits;
+        }
+    }
+
+    public long getCacheMisses() {
+        synchronized (resultCache) {
+            return cacheMisses;
+        }
+    }
+
+    public void clearCache() {
+        synchronized (resultCache) {
+            resultCache.clear();
+            cacheHits = 0;
+            cacheMisses = 0;
+        }
+    }
+
+    private CalculationResultSnapshot getCachedResult(CacheKey key) {
+        synchronized (resultCache) {
+            CalculationResultSnapshot cached = resultCache.get(key);
+            if (cached == null) {
+                cacheMisses++;
+            } else {
+                cacheHits++;
+            }
+            return cached;
+        }
+    }
+
+    private void cacheResult(CacheKey key, CalculationResultSnapshot result) {
+        synchronized (resultCache) {
+            resultCache.put(key, result);
+        }
+    }
+
+    private void validatePrayerData(PrayerDataSnapshot prayerData) {
+        if (prayerData.getCurrentLevel() < PrayerConstants.MIN_PRAYER_LEVEL ||
+                prayerData.getCurrentLevel() > PrayerConstants.MAX_PRAYER_LEVEL) {
+            throw new IllegalArgumentException("Invalid current prayer level: " + prayerData.getCurrentLevel());
+        }
+
+        // Validate target level if no target XP is set
+        if (prayerData.getTargetXP() <= 0) {
+            if (prayerData.getTargetLevel() < PrayerConstants.MIN_PRAYER_LEVEL ||
+                    prayerData.getTargetLevel() > PrayerConstants.MAX_PRAYER_LEVEL) {
+                throw new IllegalArgumentException("Invalid target prayer level: " + prayerData.getTargetLevel());
+            }
+
+            // Allow target level to equal current level (in case goal is already achieved, or if there's an xp goal)
+            if (prayerData.getTargetLevel() < prayerData.getCurrentLevel()) {
+                throw new IllegalArgumentException("Target level cannot be lower than current level");
+            }
+        } else {
+            // When target XP is set, allow target level to be higher than normal max for 200M XP goals
+            if (prayerData.getTargetLevel() < PrayerConstants.MIN_PRAYER_LEVEL) {
+                throw new IllegalArgumentException("Invalid target prayer level: " + prayerData.getTargetLevel());
+            }
+            // Validate target XP
+            if (prayerData.getTargetXP() < prayerData.getCurrentXP()) {
+                throw new IllegalArgumentException("Target XP cannot be lower than current XP");
+            }
+
+            if (prayerData.getTargetXP() > 200_000_000) {
+                throw new IllegalArgumentException("Target XP exceeds maximum prayer XP (200,000,000)");
+            }
+        }
+    }
+
+    private static final class CacheKey {
+        private static final int MODE_TARGET = 0;
+        private static final int MODE_RESOURCES = 1;
+
+        private final int mode;
+        private final int currentXP;
+        private final int currentLevel;
+        private final int targetXP;
+        private final int targetLevel;
+        // Bit 0 = sunfire wine, bit 1 = zealot's robes
+        private final int multiplier;
+        private final int totalShards;
+
+        private CacheKey(int mode, int currentXP, int currentLevel, int targetXP, int targetLevel, int multiplier,
+                int totalShards) {
+            this.mode = mode;
+            this.currentXP = currentXP;
+            this.currentLevel = currentLevel;
+            this.targetXP = targetXP;
+            this.targetLevel = targetLevel;
+            this.multiplier = multiplier;
+            this.totalShards = totalShards;
+        }
+
+        static CacheKey forTarget(PrayerDataSnapshot prayerData) {
+            // A target XP takes precedence over the target level, so only keep the one that's used
+            int targetXP = Math.max(0, prayerData.getTargetXP());
+            int targetLevel = targetXP > 0 ? 0 : prayerData.getTargetLevel();
+            return new CacheKey(MODE_TARGET, prayerData.getCurrentXP(), prayerData.getCurrentLevel(), targetXP,
+                    targetLevel, multiplierOf(prayerData), prayerData.getTotalAvailableShards());
+        }
+
+        static CacheKey forResources(PrayerDataSnapshot prayerData) {
+            // Targets don't affect resource calculations
+            return new CacheKey(MODE_RESOURCES, prayerData.getCurrentXP(), prayerData.getCurrentLevel(), 0, 0,
+                    multiplierOf(prayerData), prayerData.getTotalAvailableShards());
+        }
+
+        private static int multiplierOf(PrayerDataSnapshot prayerData) {
+            return (prayerData.isUseSunfireWine() ? 1 : 0) | (prayerData.isUseZealotRobes() ? 2 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return mode == other.mode
+                    && currentXP == other.currentXP
+                    && currentLevel == other.currentLevel
+                    && targetXP == other.targetXP
+                    && targetLevel == other.targetLevel
+                    && multiplier == other.multiplier
+                    && totalShards == other.totalShards;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = mode;
+            hash = 31 * hash + currentXP;
+            hash = 31 * hash + currentLevel;
+            hash = 31 * hash + targetXP;
+            hash = 31 * hash + targetLevel;
+            hash = 31 * hash + multiplier;
+            hash = 31 * hash + totalShards;
+            return hash;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.boneshardhelper;
 
+import java.util.Arrays;
+
 public final class PrayerConstants {
 
     // XP table for levels 1-126, and ending with 200,000,000 for the crazies out there.
@@ -23,13 +25,37 @@ public final class PrayerConstants {
 
     public static final int MIN_PRAYER_LEVEL = 1;
 
+    // Prayer points stop growing at 99; virtual levels above it don't add to the prayer bar
+    public static final int MAX_PRAYER_POINTS = 99;
+
     public static final int REGULAR_WINE_XP_PER_SHARD = 5;
 
     public static final int SUNFIRE_WINE_XP_PER_SHARD = 6;
 
+    // XP multiplier while wearing the full set of zealot's robes
+    public static final double ZEALOT_ROBES_XP_MULTIPLIER = 1.05;
+
     public static final int SHARDS_PER_WINE = 400;
 
+    public static final int INVENTORY_SIZE = 28;
+
+    // Prayer points drained by each wine offered at the libation bowl
+    public static final int PRAYER_POINTS_PER_WINE = 2;
+
+    // Prayer points drained by each wine blessed at the Exposed Altar
+    public static final int PRAYER_POINTS_PER_BLESSING = 1;
+
+    // Sunfire splinters used to turn one jug of wine into sunfire wine
+    public static final int SPLINTERS_PER_SUNFIRE_WINE = 2;
 
+    // XP needed for each level (index = level - 1), padded to 128 entries so getLevelForXP can binary search
+    // with a fixed number of steps. Padding entries are Integer.MAX_VALUE and are never selected.
+    private static final int[] LEVEL_THRESHOLDS = new int[128];
+
+    static {
+        Arrays.fill(LEVEL_THRESHOLDS, Integer.MAX_VALUE);
+        System.arraycopy(PRAYER_XP_TABLE, 0, LEVEL_THRESHOLDS, 0, MAX_PRAYER_LEVEL);
+    }
 
     // Private constructor to prevent instantiation
     private PrayerConstants() {
@@ -45,23 +71,36 @@ public final class PrayerConstants {
     }
 
     public static int getLevelForXP(int xp) {
+        // Single level-resolution path for the whole plugin. Seven fixed steps over the padded table,
+        // written as conditional adds so the JIT can emit them without unpredictable branches.
         if (xp < 0) {
             return MIN_PRAYER_LEVEL;
         }
 
-        for (int level = MAX_PRAYER_LEVEL; level >= MIN_PRAYER_LEVEL; level--) {
-            if (xp >= PRAYER_XP_TABLE[level - 1]) {
-                return level;
-            }
-        }
+        // Keep xp strictly below the padding value so the padding can never match
+        xp = Math.min(xp, Integer.MAX_VALUE - 1);
 
-        return MIN_PRAYER_LEVEL;
+        int index = 0;
+        index += LEVEL_THRESHOLDS[index + 64] <= xp ? 64 : 0;
+        index += LEVEL_THRESHOLDS[index + 32] <= xp ? 32 : 0;
+        index += LEVEL_THRESHOLDS[index + 16] <= xp ? 16 : 0;
+        index += LEVEL_THRESHOLDS[index + 8] <= xp ? 8 : 0;
+        index += LEVEL_THRESHOLDS[index + 4] <= xp ? 4 : 0;
+        index += LEVEL_THRESHOLDS[index + 2] <= xp ? 2 : 0;
+        index += LEVEL_THRESHOLDS[index + 1] <= xp ? 1 : 0;
+
+        return index + 1;
     }
 
     public static int getXPDifference(int fromLevel, int toLevel) {
         return getXPForLevel(toLevel) - getXPForLevel(fromLevel);
     }
 
+    public static int getMaxPrayerPoints(int level) {
+        // Size of a full prayer bar at the given level
+        return Math.min(level, MAX_PRAYER_POINTS);
+    }
+
     public static boolean isValidLevel(int level) {
         return level >= MIN_PRAYER_LEVEL && level <= MAX_PRAYER_LEVEL;
     }
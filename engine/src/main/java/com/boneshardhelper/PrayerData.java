@@ -10,9 +10,12 @@ public class PrayerData {
     private int targetXP;
     private boolean useSunfireWine;
     private boolean useZealotRobes;
-    private Map<BoneType, Integer> availableBones;
+    private BoneBreakdown availableBones;
     private boolean manualLevelOverride;
 
+    // Built lazily and dropped by every setter
+    private PrayerDataSnapshot snapshot;
+
     public PrayerData() {
         this.currentXP = 0;
         this.currentLevel = 1;
@@ -20,7 +23,7 @@ public class PrayerData {
         this.targetXP = 0;
         this.useSunfireWine = false;
         this.useZealotRobes = false;
-        this.availableBones = new HashMap<>();
+        this.availableBones = BoneBreakdown.EMPTY;
         this.manualLevelOverride = false;
     }
 
@@ -31,7 +34,7 @@ public class PrayerData {
         this.targetXP = 0; // Will be calculated from target level if not set
         this.useSunfireWine = useSunfireWine;
         this.useZealotRobes = false;
-        this.availableBones = new HashMap<>();
+        this.availableBones = BoneBreakdown.EMPTY;
         this.manualLevelOverride = false;
     }
 
@@ -42,6 +45,7 @@ public class PrayerData {
 
     public void setCurrentXP(int currentXP) {
         this.currentXP = currentXP;
+        this.snapshot = null;
     }
 
     public int getCurrentLevel() {
@@ -50,6 +54,7 @@ public class PrayerData {
 
     public void setCurrentLevel(int currentLevel) {
         this.currentLevel = currentLevel;
+        this.snapshot = null;
     }
 
     public int getTargetLevel() {
@@ -58,6 +63,7 @@ public class PrayerData {
 
     public void setTargetLevel(int targetLevel) {
         this.targetLevel = targetLevel;
+        this.snapshot = null;
     }
 
     public int getTargetXP() {
@@ -66,6 +72,7 @@ public class PrayerData {
 
     public void setTargetXP(int targetXP) {
         this.targetXP = targetXP;
+        this.snapshot = null;
     }
 
     public boolean isUseSunfireWine() {
@@ -74,6 +81,7 @@ public class PrayerData {
 
     public void setUseSunfireWine(boolean useSunfireWine) {
         this.useSunfireWine = useSunfireWine;
+        this.snapshot = null;
     }
 
     public boolean isUseZealotRobes() {
@@ -82,14 +90,25 @@ public class PrayerData {
 
     public void setUseZealotRobes(boolean useZealotRobes) {
         this.useZealotRobes = useZealotRobes;
+        this.snapshot = null;
     }
 
     public Map<BoneType, Integer> getAvailableBones() {
-        return new HashMap<>(availableBones);
+        return new HashMap<>(availableBones.asMap());
     }
 
     public void setAvailableBones(Map<BoneType, Integer> availableBones) {
-        this.availableBones = new HashMap<>(availableBones);
+        this.availableBones = BoneBreakdown.of(availableBones);
+        this.snapshot = null;
+    }
+
+    public BoneBreakdown getBoneBreakdown() {
+        return availableBones;
+    }
+
+    public void setBoneBreakdown(BoneBreakdown availableBones) {
+        this.availableBones = availableBones != null ? availableBones : BoneBreakdown.EMPTY;
+        this.snapshot = null;
     }
 
     public boolean isManualLevelOverride() {
@@ -98,19 +117,28 @@ public class PrayerData {
 
     public void setManualLevelOverride(boolean manualLevelOverride) {
         this.manualLevelOverride = manualLevelOverride;
+        this.snapshot = null;
     }
 
     public double getXPPerShard() {
         // Gets the XP per shard, accounting for wine type and zealot robes
-        double baseXP = useSunfireWine ? 6.0 : 5.0;
-        return useZealotRobes ? baseXP * 1.05 : baseXP;
+        return PrayerDataSnapshot.xpPerShard(useSunfireWine, useZealotRobes);
     }
 
     public int getTotalAvailableShards() {
-        // Calculates total available bone shards from all bone types.
-        return availableBones.entrySet().stream()
-                .mapToInt(entry -> entry.getKey().getShardValue() * entry.getValue())
-                .sum();
+        // Precomputed when the bones are set
+        return availableBones.getTotalShards();
+    }
+
+    public PrayerDataSnapshot snapshot() {
+        // Immutable copy of the current inputs, reused until something changes
+        PrayerDataSnapshot current = snapshot;
+        if (current == null) {
+            current = new PrayerDataSnapshot(currentXP, currentLevel, targetLevel, targetXP, useSunfireWine,
+                    useZealotRobes, manualLevelOverride, availableBones);
+            snapshot = current;
+        }
+        return current;
     }
 
     public boolean isValidTargetLevel() {
@@ -126,7 +154,7 @@ public class PrayerData {
                 ", targetXP=" + targetXP +
                 ", useSunfireWine=" + useSunfireWine +
                 ", useZealotRobes=" + useZealotRobes +
-                ", availableBones=" + availableBones.size() + " types" +
+                ", availableBones=" + availableBones.getTypeCount() + " types" +
                 ", manualLevelOverride=" + manualLevelOverride +
                 '}';
     }
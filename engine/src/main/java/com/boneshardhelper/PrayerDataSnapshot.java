@@ -0,0 +1,94 @@
+package com.boneshardhelper;
+
+// Immutable view of PrayerData with the shard total and XP per shard already resolved.
+// Built once per input change and safe to hand to the engine from any thread.
+public final class PrayerDataSnapshot {
+    private final int currentXP;
+    private final int currentLevel;
+    private final int targetLevel;
+    private final int targetXP;
+    private final boolean useSunfireWine;
+    private final boolean useZealotRobes;
+    private final boolean manualLevelOverride;
+    private final BoneBreakdown availableBones;
+    private final double xpPerShard;
+
+    public PrayerDataSnapshot(int currentXP, int currentLevel, int targetLevel, int targetXP, boolean useSunfireWine,
+            boolean useZealotRobes, boolean manualLevelOverride, BoneBreakdown availableBones) {
+        this.currentXP = currentXP;
+        this.currentLevel = currentLevel;
+        this.targetLevel = targetLevel;
+        this.targetXP = targetXP;
+        this.useSunfireWine = useSunfireWine;
+        this.useZealotRobes = useZealotRobes;
+        this.manualLevelOverride = manualLevelOverride;
+        this.availableBones = availableBones != null ? availableBones : BoneBreakdown.EMPTY;
+        this.xpPerShard = xpPerShard(useSunfireWine, useZealotRobes);
+    }
+
+    public static double xpPerShard(boolean useSunfireWine, boolean useZealotRobes) {
+        // XP per shard, accounting for wine type and zealot robes
+        double baseXP = useSunfireWine
+                ? PrayerConstants.SUNFIRE_WINE_XP_PER_SHARD : PrayerConstants.REGULAR_WINE_XP_PER_SHARD;
+        return useZealotRobes ? baseXP * PrayerConstants.ZEALOT_ROBES_XP_MULTIPLIER : baseXP;
+    }
+
+    public int getCurrentXP() {
+        return currentXP;
+    }
+
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    public int getTargetLevel() {
+        return targetLevel;
+    }
+
+    public int getTargetXP() {
+        return targetXP;
+    }
+
+    public boolean isUseSunfireWine() {
+        return useSunfireWine;
+    }
+
+    public boolean isUseZealotRobes() {
+        return useZealotRobes;
+    }
+
+    public boolean isManualLevelOverride() {
+        return manualLevelOverride;
+    }
+
+    public BoneBreakdown getAvailableBones() {
+        return availableBones;
+    }
+
+    public double getXPPerShard() {
+        return xpPerShard;
+    }
+
+    public int getTotalAvailableShards() {
+        return availableBones.getTotalShards();
+    }
+
+    public PrayerDataSnapshot withAvailableBones(BoneBreakdown bones) {
+        return new PrayerDataSnapshot(currentXP, currentLevel, targetLevel, targetXP, useSunfireWine, useZealotRobes,
+                manualLevelOverride, bones);
+    }
+
+    @Override
+    public String toString() {
+        return "PrayerDataSnapshot{" +
+                "currentXP=" + currentXP +
+                ", currentLevel=" + currentLevel +
+                ", targetLevel=" + targetLevel +
+                ", targetXP=" + targetXP +
+                ", useSunfireWine=" + useSunfireWine +
+                ", useZealotRobes=" + useZealotRobes +
+                ", availableBones=" + availableBones.getTypeCount() + " types" +
+                ", manualLevelOverride=" + manualLevelOverride +
+                '}';
+    }
+}
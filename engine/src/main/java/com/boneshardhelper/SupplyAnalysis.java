@@ -0,0 +1,57 @@
+package com.boneshardhelper;
+
+// Immutable comparison of the shards on hand against the wines (and, for sunfire wine, splinters) that
+// can offer them. The bottleneck is whichever resource runs out first.
+public final class SupplyAnalysis {
+
+    public enum Bottleneck {
+        SHARDS,
+        WINES,
+        SPLINTERS
+    }
+
+    private final int availableShards;
+    private final int winesAvailable;
+    private final int winesNeeded;
+    private final int splintersShort;
+    private final Bottleneck bottleneck;
+
+    public SupplyAnalysis(int availableShards, int winesAvailable, int winesNeeded, int splintersShort,
+            Bottleneck bottleneck) {
+        this.availableShards = availableShards;
+        this.winesAvailable = winesAvailable;
+        this.winesNeeded = winesNeeded;
+        this.splintersShort = splintersShort;
+        this.bottleneck = bottleneck;
+    }
+
+    public int getAvailableShards() {
+        return availableShards;
+    }
+
+    public int getWinesAvailable() {
+        // Ready wines plus any jugs of wine the splinters on hand can turn into sunfire wine
+        return winesAvailable;
+    }
+
+    public int getWinesNeeded() {
+        return winesNeeded;
+    }
+
+    public int getWinesShort() {
+        return Math.max(0, winesNeeded - winesAvailable);
+    }
+
+    public int getSplintersShort() {
+        return splintersShort;
+    }
+
+    public long getShardsProcessable() {
+        // How many shards the current wine stock can offer
+        return (long) winesAvailable * PrayerConstants.SHARDS_PER_WINE;
+    }
+
+    public Bottleneck getBottleneck() {
+        return bottleneck;
+    }
+}
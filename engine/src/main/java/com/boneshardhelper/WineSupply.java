@@ -0,0 +1,27 @@
+package com.boneshardhelper;
+
+// Wine-related items that limit how many shards can be offered, counted alongside bones. Item IDs are mapped
+// back to these (noted variants included) by BoneResourceScanner's lookup tables.
+public enum WineSupply {
+    JUG_OF_WINE(1993),
+    BLESSED_WINE(29386),
+    SUNFIRE_WINE(29382),
+    BLESSED_SUNFIRE_WINE(29384),
+    SUNFIRE_SPLINTERS(28924);
+
+    private static final WineSupply[] VALUES = values();
+
+    private final int itemId;
+
+    WineSupply(int itemId) {
+        this.itemId = itemId;
+    }
+
+    public int getItemId() {
+        return itemId;
+    }
+
+    public static int getCount() {
+        return VALUES.length;
+    }
+}
@@ -0,0 +1,132 @@
+package com.boneshardhelper;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchPlannerCliTest
+{
+	private static final String CSV_HEADER =
+		"id,requiredShards,availableShards,shardShortage,winesNeeded,achievableLevel,remainingXP,goalAchieved,error";
+
+	private final BatchPlannerCli cli = new BatchPlannerCli();
+
+	@Test
+	public void csvFieldsAreUnquotedOnReadAndQuotedOnWrite() throws IOException
+	{
+		String[] lines = run(null,
+			"id,currentLevel,targetLevel,DRAGON_BONES",
+			"\"Smith, \"\"Bob\"\"\",50,60,\"10\"");
+
+		assertEquals(CSV_HEADER, lines[0]);
+		assertTrue(lines[1], lines[1].startsWith("\"Smith, \"\"Bob\"\"\","));
+		assertTrue(lines[1], lines[1].endsWith(",false,"));
+		assertEquals(1, cli.getProcessed());
+		assertEquals(0, cli.getFailed());
+	}
+
+	@Test
+	public void jsonEscapesAreDecodedAndReEncoded() throws IOException
+	{
+		String[] lines = run(null,
+			"{\"id\": \"a\\\"b\\\\c\\u00e9\\n\", \"currentLevel\": 50, \"targetLevel\": 60, \"sunfire\": true}");
+
+		assertEquals(1, lines.length);
+		assertTrue(lines[0], lines[0].startsWith("{\"id\":\"a\\\"b\\\\c\u00e9\\u000a\","));
+		assertTrue(lines[0], lines[0].endsWith(",\"goalAchieved\":false}"));
+		assertEquals(0, cli.getFailed());
+	}
+
+	@Test
+	public void unknownJsonFieldsFailOnlyTheirRow() throws IOException
+	{
+		String[] lines = run(null,
+			"{\"id\":\"first\",\"currentLevel\":50,\"favouriteBone\":\"big\"}",
+			"{\"id\":\"second\",\"currentLevel\":50,\"targetLevel\":51}");
+
+		assertEquals("{\"id\":\"first\",\"error\":\"Unknown field: favouriteBone\"}", lines[0]);
+		assertTrue(lines[1], lines[1].startsWith("{\"id\":\"second\",\"requiredShards\":"));
+		assertEquals(2, cli.getProcessed());
+		assertEquals(1, cli.getFailed());
+	}
+
+	@Test
+	public void invalidRowsAreWrittenAsErrorRecords() throws IOException
+	{
+		String[] lines = run(null,
+			"id,currentLevel,targetLevel,zealot",
+			"negative,-5,60,",
+			"missing,,60,",
+			"flag,50,60,maybe",
+			"extra,50,60,no,1",
+			"good,50,60,yes");
+
+		assertEquals("negative,,,,,,,,currentLevel must be a non-negative integer: -5", lines[1]);
+		assertEquals("missing,,,,,,,,currentXP or currentLevel is required", lines[2]);
+		assertEquals("flag,,,,,,,,zealot must be true or false: maybe", lines[3]);
+		assertEquals("extra,,,,,,,,Row has more columns than the header", lines[4]);
+		assertTrue(lines[5], lines[5].endsWith(",false,"));
+		assertEquals(5, cli.getProcessed());
+		assertEquals(4, cli.getFailed());
+	}
+
+	@Test
+	public void anExplicitOutputFormatOverridesTheInputFormat() throws IOException
+	{
+		String[] jsonLines = run("jsonl",
+			"id,currentLevel,targetLevel",
+			"csv-in,50,60");
+
+		assertEquals(1, jsonLines.length);
+		assertTrue(jsonLines[0], jsonLines[0].startsWith("{\"id\":\"csv-in\",\"requiredShards\":"));
+
+		String[] csvLines = new BatchPlannerCliTest().run("csv",
+			"{\"id\":\"json-in\",\"currentLevel\":50,\"targetLevel\":60}");
+
+		assertEquals(CSV_HEADER, csvLines[0]);
+		assertTrue(csvLines[1], csvLines[1].startsWith("json-in,"));
+	}
+
+	@Test
+	public void resultsMatchTheEngine() throws IOException
+	{
+		String[] lines = run(null,
+			"id,currentXP,targetXP,BIG_BONES",
+			"big,100000,200000,40");
+
+		CalculationResultSnapshot expected = new PrayerCalculationEngine().calculateForTarget(
+			new PrayerDataSnapshot(100_000, PrayerConstants.getLevelForXP(100_000),
+				PrayerConstants.getLevelForXP(200_000), 200_000, false, false, false,
+				BoneBreakdown.ofCounts(counts(BoneType.BIG_BONES, 40))));
+
+		assertEquals("big," + expected.getRequiredShards() + "," + expected.getTotalAvailableShards() + ","
+			+ expected.getShardShortage() + "," + expected.getWinesNeeded() + "," + expected.getAchievableLevel() + ","
+			+ expected.getRemainingXP() + "," + expected.isGoalAlreadyAchieved() + ",", lines[1]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void anUnknownCsvHeaderStopsTheRun() throws IOException
+	{
+		run(null, "id,currentLevel,favouriteBone");
+	}
+
+	private String[] run(String outputFormat, String... inputLines) throws IOException
+	{
+		StringWriter out = new StringWriter();
+		cli.run(new BufferedReader(new StringReader(String.join("\n", inputLines))), out, outputFormat);
+		return out.toString().split("\n");
+	}
+
+	private static int[] counts(BoneType boneType, int count)
+	{
+		int[] counts = new int[BoneType.values().length];
+		counts[boneType.ordinal()] = count;
+		return counts;
+	}
+}
@@ -0,0 +1,73 @@
+package com.boneshardhelper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrayerCalculationEngineTest
+{
+	private final PrayerCalculationEngine engine = new PrayerCalculationEngine();
+
+	@Test
+	public void aRepeatedCalculationIsACacheHit()
+	{
+		CalculationResult first = engine.calculateForTarget(prayerData(50, 60, false));
+		CalculationResult second = engine.calculateForTarget(prayerData(50, 60, false));
+
+		assertEquals(1, engine.getCacheMisses());
+		assertEquals(1, engine.getCacheHits());
+		assertEquals(first.getRequiredShards(), second.getRequiredShards());
+	}
+
+	@Test
+	public void aChangedInputIsACacheMiss()
+	{
+		engine.calculateForTarget(prayerData(50, 60, false));
+		engine.calculateForTarget(prayerData(50, 61, false));
+		engine.calculateForTarget(prayerData(50, 61, true));
+
+		assertEquals(3, engine.getCacheMisses());
+		assertEquals(0, engine.getCacheHits());
+	}
+
+	@Test
+	public void theLeastRecentlyUsedEntryIsEvicted()
+	{
+		engine.calculateForTarget(prayerData(1, 2, false));
+		for (int target = 3; target <= 66; target++)
+		{
+			engine.calculateForTarget(prayerData(1, target, false));
+		}
+
+		// 64 newer entries have pushed the first one out
+		engine.calculateForTarget(prayerData(1, 2, false));
+		engine.calculateForTarget(prayerData(1, 66, false));
+
+		assertEquals(65 + 1, engine.getCacheMisses());
+		assertEquals(1, engine.getCacheHits());
+	}
+
+	@Test
+	public void clearingTheCacheResetsTheCounters()
+	{
+		engine.calculateForTarget(prayerData(50, 60, false));
+		engine.calculateForTarget(prayerData(50, 60, false));
+		engine.clearCache();
+
+		assertEquals(0, engine.getCacheHits());
+		assertEquals(0, engine.getCacheMisses());
+
+		engine.calculateForTarget(prayerData(50, 60, false));
+		assertEquals(1, engine.getCacheMisses());
+	}
+
+	private static PrayerData prayerData(int currentLevel, int targetLevel, boolean sunfire)
+	{
+		PrayerData prayerData = new PrayerData();
+		prayerData.setCurrentLevel(currentLevel);
+		prayerData.setCurrentXP(PrayerConstants.getXPForLevel(currentLevel));
+		prayerData.setTargetLevel(targetLevel);
+		prayerData.setUseSunfireWine(sunfire);
+		return prayerData;
+	}
+}
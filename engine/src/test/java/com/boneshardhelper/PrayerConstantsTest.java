@@ -0,0 +1,49 @@
+package com.boneshardhelper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrayerConstantsTest
+{
+	@Test
+	public void levelLookupMatchesALinearScanAtEveryBoundary()
+	{
+		for (int level = PrayerConstants.MIN_PRAYER_LEVEL; level <= PrayerConstants.MAX_PRAYER_LEVEL; level++)
+		{
+			int threshold = PrayerConstants.PRAYER_XP_TABLE[level - 1];
+			for (int xp = threshold - 1; xp <= threshold + 1; xp++)
+			{
+				assertEquals("XP " + xp, linearLevelForXP(xp), PrayerConstants.getLevelForXP(xp));
+			}
+		}
+	}
+
+	@Test
+	public void levelLookupAtTheEndsOfTheXpRange()
+	{
+		assertEquals(1, PrayerConstants.getLevelForXP(0));
+		assertEquals(1, PrayerConstants.getLevelForXP(-1));
+		assertEquals(linearLevelForXP(200_000_000), PrayerConstants.getLevelForXP(200_000_000));
+		assertEquals(PrayerConstants.MAX_PRAYER_LEVEL, PrayerConstants.getLevelForXP(200_000_000));
+
+		// Above the 200M cap the lookup stays at the max level
+		assertEquals(PrayerConstants.MAX_PRAYER_LEVEL, PrayerConstants.getLevelForXP(200_000_001));
+		assertEquals(PrayerConstants.MAX_PRAYER_LEVEL, PrayerConstants.getLevelForXP(Integer.MAX_VALUE));
+	}
+
+	private static int linearLevelForXP(int xp)
+	{
+		// Highest level whose threshold has been reached
+		int level = PrayerConstants.MIN_PRAYER_LEVEL;
+		for (int candidate = PrayerConstants.MIN_PRAYER_LEVEL; candidate <= PrayerConstants.MAX_PRAYER_LEVEL;
+			candidate++)
+		{
+			if (PrayerConstants.PRAYER_XP_TABLE[candidate - 1] <= xp)
+			{
+				level = candidate;
+			}
+		}
+		return level;
+	}
+}
@@ -0,0 +1,91 @@
+package com.boneshardhelper;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoneResourceScannerBenchmark {
+
+    private BoneResourceScanner scanner;
+
+    @Setup
+    public void setUp() {
+        // A typical training inventory: noted and unnoted bones, shards, wines and some junk
+        Item[] items = new Item[28];
+        items[0] = new Item(29381, 12_345); // Blessed bone shards
+        items[1] = new Item(537, 250); // Noted dragon bones
+        items[2] = new Item(22125, 40); // Noted superior dragon bones
+        items[3] = new Item(29356, 1); // Blessed dragon bones
+        items[4] = new Item(29338, 1); // Blessed bone statuette
+        for (int slot = 5; slot < 25; slot++) {
+            items[slot] = new Item(1993, 1); // Jug of wine
+        }
+        items[25] = new Item(995, 1_000_000); // Coins
+        items[26] = new Item(-1, 0); // Empty slot
+
+        ItemContainer inventory = stub(ItemContainer.class, (method, args) -> {
+            switch (method) {
+                case "getItems":
+                    return items;
+                case "getId":
+                    return BoneContainerTracker.TrackedContainer.INVENTORY.getContainerId();
+                default:
+                    return null;
+            }
+        });
+
+        Client client = stub(Client.class, (method, args) -> "getItemContainer".equals(method) ? inventory : null);
+
+        // The scanner only needs the client for scanning
+        scanner = new BoneResourceScanner(client, null, null);
+    }
+
+    @Benchmark
+    public Map<BoneType, Integer> scanInventory() {
+        return scanner.scanInventory();
+    }
+
+    @Benchmark
+    public int scanAndCalculateTotalShards() {
+        return scanner.scanAndCalculateTotalShards();
+    }
+
+    private interface StubHandler {
+        Object handle(String method, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, StubHandler handler) {
+        // Minimal stand-in for RuneLite API interfaces so benchmarks run without a game client
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    Object result = handler.handle(method.getName(), args);
+                    if (result == null && method.getReturnType().isPrimitive()) {
+                        if (method.getReturnType() == boolean.class) {
+                            return false;
+                        }
+                        return method.getReturnType() == void.class ? null : 0;
+                    }
+                    return result;
+                });
+    }
+}
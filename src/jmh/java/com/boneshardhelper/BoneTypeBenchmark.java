@@ -0,0 +1,32 @@
+package com.boneshardhelper;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoneTypeBenchmark {
+
+    private final BoneType[] boneTypes = BoneType.values();
+
+    @Benchmark
+    public void getDisplayNameAllTypes(Blackhole blackhole) {
+        // Same access pattern as rebuilding the reference and breakdown tables
+        for (BoneType boneType : boneTypes) {
+            blackhole.consume(boneType.getDisplayName());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.boneshardhelper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrayerCalculationEngineBenchmark {
+
+    // Starting XP for a low, mid and near-max account
+    @Param({"1154", "1986068", "13034431"})
+    private int currentXP;
+
+    @Param({"false", "true"})
+    private boolean useSunfireWine;
+
+    private PrayerCalculationEngine engine;
+    private PrayerData targetData;
+    private PrayerData resourceData;
+
+    // Distinct inputs cycled through by the uncached benchmarks. There are more than the engine's LRU
+    // holds, so every call misses the cache and measures the calculation itself.
+    private static final int UNCACHED_INPUTS = 1024;
+    private PrayerDataSnapshot[] uncachedTargetData;
+    private PrayerDataSnapshot[] uncachedResourceData;
+    private int nextInput;
+
+    @Setup
+    public void setUp() {
+        engine = new PrayerCalculationEngine();
+
+        int currentLevel = PrayerConstants.getLevelForXP(currentXP);
+
+        Map<BoneType, Integer> bones = new EnumMap<>(BoneType.class);
+        bones.put(BoneType.BLESSED_DRAGON_BONES, 120);
+        bones.put(BoneType.BLESSED_SUPERIOR_DRAGON_BONES, 27);
+        bones.put(BoneType.BLESSED_BONE_SHARDS, 5_000);
+
+        targetData = new PrayerData();
+        targetData.setCurrentXP(currentXP);
+        targetData.setCurrentLevel(currentLevel);
+        targetData.setTargetLevel(Math.min(currentLevel + 1, PrayerConstants.MAX_PRAYER_LEVEL));
+        targetData.setUseSunfireWine(useSunfireWine);
+        targetData.setUseZealotRobes(true);
+        targetData.setAvailableBones(bones);
+
+        resourceData = new PrayerData();
+        resourceData.setCurrentXP(currentXP);
+        resourceData.setCurrentLevel(currentLevel);
+        resourceData.setTargetLevel(currentLevel);
+        resourceData.setUseSunfireWine(useSunfireWine);
+        resourceData.setAvailableBones(bones);
+
+        uncachedTargetData = new PrayerDataSnapshot[UNCACHED_INPUTS];
+        uncachedResourceData = new PrayerDataSnapshot[UNCACHED_INPUTS];
+        for (int i = 0; i < UNCACHED_INPUTS; i++) {
+            // Only the shard total differs, which is enough to give each input its own cache key
+            Map<BoneType, Integer> variedBones = new EnumMap<>(bones);
+            variedBones.put(BoneType.BLESSED_BONE_SHARDS, 5_000 + i);
+
+            targetData.setAvailableBones(variedBones);
+            uncachedTargetData[i] = targetData.snapshot();
+            resourceData.setAvailableBones(variedBones);
+            uncachedResourceData[i] = resourceData.snapshot();
+        }
+        targetData.setAvailableBones(bones);
+        resourceData.setAvailableBones(bones);
+    }
+
+    // The fixed-input benchmarks below hit the result cache after the first call
+    @Benchmark
+    public CalculationResult calculateForTarget() {
+        return engine.calculateForTarget(targetData);
+    }
+
+    @Benchmark
+    public CalculationResult calculateFromResources() {
+        return engine.calculateFromResources(resourceData);
+    }
+
+    @Benchmark
+    public CalculationResultSnapshot calculateForTargetSnapshot() {
+        return engine.calculateForTarget(targetData.snapshot());
+    }
+
+    @Benchmark
+    public CalculationResultSnapshot calculateFromResourcesSnapshot() {
+        return engine.calculateFromResources(resourceData.snapshot());
+    }
+
+    @Benchmark
+    public CalculationResultSnapshot calculateForTargetUncached() {
+        nextInput = (nextInput + 1) & (UNCACHED_INPUTS - 1);
+        return engine.calculateForTarget(uncachedTargetData[nextInput]);
+    }
+
+    @Benchmark
+    public CalculationResultSnapshot calculateFromResourcesUncached() {
+        nextInput = (nextInput + 1) & (UNCACHED_INPUTS - 1);
+        return engine.calculateFromResources(uncachedResourceData[nextInput]);
+    }
+}
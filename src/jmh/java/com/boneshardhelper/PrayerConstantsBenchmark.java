@@ -0,0 +1,44 @@
+package com.boneshardhelper;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrayerConstantsBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    // Uniform over the whole XP range so every level bucket is exercised
+    private final int[] xpSamples = new int[SAMPLES];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            xpSamples[i] = random.nextInt(200_000_001);
+        }
+    }
+
+    @Benchmark
+    public void getLevelForXP(Blackhole blackhole) {
+        for (int xp : xpSamples) {
+            blackhole.consume(PrayerConstants.getLevelForXP(xp));
+        }
+    }
+}
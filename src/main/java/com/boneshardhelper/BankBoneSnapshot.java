@@ -0,0 +1,219 @@
+package com.boneshardhelper;
+
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.client.config.ConfigManager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Per-BoneType counts of the bank, kept up to date from ItemContainerChanged deltas and persisted
+// per RuneScape profile so banked bones are known right after login without opening the bank.
+@Singleton
+public class BankBoneSnapshot {
+
+    static final int BANK_CONTAINER_ID = 95;
+
+    private static final String CONFIG_GROUP = "boneshardhelper";
+    private static final String CONFIG_KEY = "bankBones";
+
+    private static final BoneType[] BONE_TYPES = BoneType.values();
+
+    public interface Listener {
+        // Called on the client thread with the full, immutable bank breakdown
+        void onBankBonesChanged(BoneBreakdown bankBones);
+    }
+
+    private final ConfigManager configManager;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // Last seen contents of each bank slot; only valid once the bank has been opened this session
+    private int[] slotItemIds = new int[0];
+    private int[] slotQuantities = new int[0];
+    private boolean slotsKnown;
+
+    // Running counts keyed by consolidated BoneType ordinal
+    private final int[] boneCounts = new int[BONE_TYPES.length];
+
+    // Published copy for readers on other threads
+    private volatile BoneBreakdown bones = BoneBreakdown.EMPTY;
+
+    @Inject
+    BankBoneSnapshot(ConfigManager configManager) {
+        this.configManager = configManager;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public BoneBreakdown getBones() {
+        return bones;
+    }
+
+    public void load() {
+        // Restores the last saved snapshot for the current profile; the next bank event rebuilds it
+        Arrays.fill(boneCounts, 0);
+        clearSlots();
+
+        String saved = configManager.getRSProfileConfiguration(CONFIG_GROUP, CONFIG_KEY);
+        if (saved != null && !saved.isEmpty()) {
+            for (String entry : saved.split(",")) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0) {
+                    continue;
+                }
+
+                try {
+                    BoneType boneType = BoneResourceScanner.consolidateBoneType(
+                            BoneType.valueOf(entry.substring(0, separator)));
+                    int count = Integer.parseInt(entry.substring(separator + 1));
+                    if (count > 0) {
+                        boneCounts[boneType.ordinal()] += count;
+                    }
+                } catch (IllegalArgumentException e) {
+                    // Skip entries from bone types that no longer exist
+                }
+            }
+        }
+
+        publish();
+    }
+
+    public void reset() {
+        // Forget the session's slot state but keep the persisted counts
+        clearSlots();
+    }
+
+    public void resync(ItemContainer bank) {
+        // Rebuilds the counts from the bank's current contents, e.g. after the bone item IDs were resolved.
+        // Without a bank seen this session the persisted counts stand, as they are stored by BoneType.
+        if (bank == null) {
+            return;
+        }
+
+        clearSlots();
+        if (applyContainer(bank)) {
+            save();
+            publish();
+        }
+    }
+
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        if (event.getContainerId() != BANK_CONTAINER_ID) {
+            return;
+        }
+
+        if (applyContainer(event.getItemContainer())) {
+            save();
+            publish();
+        }
+    }
+
+    private boolean applyContainer(ItemContainer container) {
+        Item[] items = container != null ? container.getItems() : null;
+        int newSize = items != null ? items.length : 0;
+
+        if (!slotsKnown) {
+            // First bank event since login: the loaded counts may be stale, so rebuild from the full bank once
+            int[] previous = Arrays.copyOf(boneCounts, boneCounts.length);
+            Arrays.fill(boneCounts, 0);
+            slotItemIds = new int[newSize];
+            slotQuantities = new int[newSize];
+            for (int slot = 0; slot < newSize; slot++) {
+                Item item = items[slot];
+                if (item != null && item.getId() > 0) {
+                    slotItemIds[slot] = item.getId();
+                    slotQuantities[slot] = item.getQuantity();
+                    adjust(item.getId(), item.getQuantity());
+                }
+            }
+            slotsKnown = true;
+            return !Arrays.equals(previous, boneCounts);
+        }
+
+        int slots = Math.max(newSize, slotItemIds.length);
+        if (slotItemIds.length < slots) {
+            slotItemIds = Arrays.copyOf(slotItemIds, slots);
+            slotQuantities = Arrays.copyOf(slotQuantities, slots);
+        }
+
+        boolean changed = false;
+        for (int slot = 0; slot < slots; slot++) {
+            int newId = 0;
+            int newQuantity = 0;
+            if (slot < newSize && items[slot] != null && items[slot].getId() > 0) {
+                newId = items[slot].getId();
+                newQuantity = items[slot].getQuantity();
+            }
+
+            int oldId = slotItemIds[slot];
+            int oldQuantity = slotQuantities[slot];
+            if (oldId == newId && oldQuantity == newQuantity) {
+                continue;
+            }
+
+            changed |= adjust(oldId, -oldQuantity);
+            changed |= adjust(newId, newQuantity);
+
+            slotItemIds[slot] = newId;
+            slotQuantities[slot] = newQuantity;
+        }
+        return changed;
+    }
+
+    private boolean adjust(int itemId, int quantityDelta) {
+        if (quantityDelta == 0) {
+            return false;
+        }
+
+        int ordinal = BoneResourceScanner.getConsolidatedOrdinal(itemId);
+        if (ordinal < 0) {
+            return false;
+        }
+
+        boneCounts[ordinal] += quantityDelta;
+        return true;
+    }
+
+    private void clearSlots() {
+        slotItemIds = new int[0];
+        slotQuantities = new int[0];
+        slotsKnown = false;
+    }
+
+    private void save() {
+        // Only bone counts are stored, e.g. "BLESSED_DRAGON_BONES:120,BLESSED_BONE_SHARDS:5000"
+        StringBuilder sb = new StringBuilder();
+        for (int ordinal = 0; ordinal < boneCounts.length; ordinal++) {
+            if (boneCounts[ordinal] > 0) {
+                if (sb.length() > 0) {
+                    sb.append(',');
+                }
+                sb.append(BONE_TYPES[ordinal].name()).append(':').append(boneCounts[ordinal]);
+            }
+        }
+
+        if (sb.length() == 0) {
+            configManager.unsetRSProfileConfiguration(CONFIG_GROUP, CONFIG_KEY);
+        } else {
+            configManager.setRSProfileConfiguration(CONFIG_GROUP, CONFIG_KEY, sb.toString());
+        }
+    }
+
+    private void publish() {
+        BoneBreakdown snapshot = BoneBreakdown.ofCounts(boneCounts);
+        bones = snapshot;
+        for (Listener listener : listeners) {
+            listener.onBankBonesChanged(snapshot);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.boneshardhelper;
+
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.events.ItemContainerChanged;
+
+import javax.inject.Singleton;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+// Keeps a per-BoneType and per-WineSupply count of every tracked container by applying slot deltas from
+// ItemContainerChanged, plus a running total over the containers the player has chosen to count. Toggling
+// a container adds or subtracts its cached counts, so neither an item change nor a config change needs a
+// full rescan.
+// All state is confined to the client thread.
+@Singleton
+public class BoneContainerTracker {
+
+    public enum TrackedContainer {
+        INVENTORY(93, BoneShardHelperConfig::includeInventoryBones),
+        EQUIPMENT(94, BoneShardHelperConfig::includeEquippedBones),
+        LOOTING_BAG(516, BoneShardHelperConfig::includeLootingBagBones),
+        GROUP_STORAGE(659, BoneShardHelperConfig::includeGroupStorageBones);
+
+        private final int containerId;
+        private final Predicate<BoneShardHelperConfig> enabledInConfig;
+
+        TrackedContainer(int containerId, Predicate<BoneShardHelperConfig> enabledInConfig) {
+            this.containerId = containerId;
+            this.enabledInConfig = enabledInConfig;
+        }
+
+        public int getContainerId() {
+            return containerId;
+        }
+
+        public boolean isEnabled(BoneShardHelperConfig config) {
+            return enabledInConfig.test(config);
+        }
+
+        static TrackedContainer forContainerId(int containerId) {
+            for (TrackedContainer container : CONTAINERS) {
+                if (container.containerId == containerId) {
+                    return container;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final BoneType[] BONE_TYPES = BoneType.values();
+
+    private static final TrackedContainer[] CONTAINERS = TrackedContainer.values();
+
+    public interface Listener {
+        // Called on the client thread with only the consolidated types whose counted total changed
+        void onBoneCountsChanged(Map<BoneType, Integer> changedCounts, int totalShards);
+    }
+
+    public interface SupplyListener {
+        // Called on the client thread with a copy of the counted totals, indexed by WineSupply ordinal
+        void onSuppliesChanged(int[] supplyCounts);
+    }
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final List<SupplyListener> supplyListeners = new CopyOnWriteArrayList<>();
+
+    // Cached contents and counts of each container, indexed by TrackedContainer ordinal
+    private final ContainerSnapshot[] snapshots = new ContainerSnapshot[CONTAINERS.length];
+
+    // Running sum over the enabled snapshots, keyed by consolidated BoneType ordinal
+    private final int[] boneCounts = new int[BONE_TYPES.length];
+    private int totalShards;
+
+    // Running sum over the enabled snapshots, keyed by WineSupply ordinal
+    private final int[] supplyCounts = new int[WineSupply.getCount()];
+    private boolean suppliesChanged;
+
+    public BoneContainerTracker() {
+        for (TrackedContainer container : CONTAINERS) {
+            snapshots[container.ordinal()] = new ContainerSnapshot(container == TrackedContainer.INVENTORY);
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public void addSupplyListener(SupplyListener listener) {
+        supplyListeners.add(listener);
+    }
+
+    public void removeSupplyListener(SupplyListener listener) {
+        supplyListeners.remove(listener);
+    }
+
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        TrackedContainer container = TrackedContainer.forContainerId(event.getContainerId());
+        if (container == null) {
+            return;
+        }
+
+        long changedMask = applyContainer(snapshots[container.ordinal()], event.getItemContainer());
+        notifyChanged(changedMask);
+        notifySuppliesChanged();
+    }
+
+    public void setEnabled(TrackedContainer container, boolean enabled) {
+        ContainerSnapshot snapshot = snapshots[container.ordinal()];
+        if (snapshot.enabled == enabled) {
+            return;
+        }
+
+        // Moves the container's cached counts in or out of the running total
+        snapshot.enabled = enabled;
+        int sign = enabled ? 1 : -1;
+        long changedMask = 0L;
+        for (int ordinal = 0; ordinal < BONE_TYPES.length; ordinal++) {
+            if (snapshot.boneCounts[ordinal] != 0) {
+                boneCounts[ordinal] += sign * snapshot.boneCounts[ordinal];
+                changedMask |= 1L << ordinal;
+            }
+        }
+        totalShards += sign * snapshot.totalShards;
+        for (int ordinal = 0; ordinal < supplyCounts.length; ordinal++) {
+            if (snapshot.supplyCounts[ordinal] != 0) {
+                supplyCounts[ordinal] += sign * snapshot.supplyCounts[ordinal];
+                suppliesChanged = true;
+            }
+        }
+        notifyChanged(changedMask);
+        notifySuppliesChanged();
+    }
+
+    public void applyConfig(BoneShardHelperConfig config) {
+        for (TrackedContainer container : CONTAINERS) {
+            setEnabled(container, container.isEnabled(config));
+        }
+    }
+
+    public boolean isEnabled(TrackedContainer container) {
+        return snapshots[container.ordinal()].enabled;
+    }
+
+    public void resync(IntFunction<ItemContainer> containers) {
+        // Rebuilds every snapshot from scratch, e.g. when the plugin is started while already logged in or
+        // the item ID tables have changed. A container the client no longer holds, such as a closed group
+        // storage, is recounted from its cached slots instead of being emptied.
+        Map<BoneType, Integer> cleared = clearTotals();
+        long changedMask = 0L;
+        for (TrackedContainer container : CONTAINERS) {
+            ContainerSnapshot snapshot = snapshots[container.ordinal()];
+            ItemContainer itemContainer = containers.apply(container.getContainerId());
+            if (itemContainer != null) {
+                snapshot.clear();
+                changedMask |= applyContainer(snapshot, itemContainer);
+            } else {
+                changedMask |= recount(snapshot);
+            }
+        }
+        notifyChanged(changedMask);
+        notifySuppliesChanged();
+
+        // Types that were cleared but not re-added still need to be reported as zero
+        if (!cleared.isEmpty()) {
+            cleared.keySet().removeIf(type -> boneCounts[type.ordinal()] > 0);
+            if (!cleared.isEmpty()) {
+                notifyListeners(cleared);
+            }
+        }
+    }
+
+    public void reset() {
+        Map<BoneType, Integer> cleared = clearTotals();
+        for (ContainerSnapshot snapshot : snapshots) {
+            snapshot.clear();
+        }
+        if (!cleared.isEmpty()) {
+            notifyListeners(cleared);
+        }
+        notifySuppliesChanged();
+    }
+
+    public Map<BoneType, Integer> getBoneCounts() {
+        Map<BoneType, Integer> counts = new EnumMap<>(BoneType.class);
+        for (int i = 0; i < boneCounts.length; i++) {
+            if (boneCounts[i] > 0) {
+                counts.put(BONE_TYPES[i], boneCounts[i]);
+            }
+        }
+        return counts;
+    }
+
+    public int getTotalShards() {
+        return totalShards;
+    }
+
+    public int[] getSupplyCounts() {
+        return supplyCounts.clone();
+    }
+
+    private long applyContainer(ContainerSnapshot snapshot, ItemContainer container) {
+        Item[] items = container != null ? container.getItems() : null;
+        int newSize = items != null ? items.length : 0;
+        int slots = Math.max(newSize, snapshot.slotItemIds.length);
+
+        if (snapshot.slotItemIds.length < slots) {
+            snapshot.slotItemIds = Arrays.copyOf(snapshot.slotItemIds, slots);
+            snapshot.slotQuantities = Arrays.copyOf(snapshot.slotQuantities, slots);
+        }
+
+        // Bit per BoneType ordinal that changed during this event
+        long changedMask = 0L;
+
+        for (int slot = 0; slot < slots; slot++) {
+            int newId = 0;
+            int newQuantity = 0;
+            if (slot < newSize && items[slot] != null && items[slot].getId() > 0) {
+                newId = items[slot].getId();
+                newQuantity = items[slot].getQuantity();
+            }
+
+            int oldId = snapshot.slotItemIds[slot];
+            int oldQuantity = snapshot.slotQuantities[slot];
+            if (oldId == newId && oldQuantity == newQuantity) {
+                continue;
+            }
+
+            changedMask |= adjust(snapshot, oldId, -oldQuantity);
+            changedMask |= adjust(snapshot, newId, newQuantity);
+
+            snapshot.slotItemIds[slot] = newId;
+            snapshot.slotQuantities[slot] = newQuantity;
+        }
+
+        // Changes to a container that is not counted leave the running total alone
+        return snapshot.enabled ? changedMask : 0L;
+    }
+
+    private long recount(ContainerSnapshot snapshot) {
+        // Re-adds the cached slots with the current item ID tables
+        snapshot.clearCounts();
+        long changedMask = 0L;
+        for (int slot = 0; slot < snapshot.slotItemIds.length; slot++) {
+            changedMask |= adjust(snapshot, snapshot.slotItemIds[slot], snapshot.slotQuantities[slot]);
+        }
+        return snapshot.enabled ? changedMask : 0L;
+    }
+
+    private long adjust(ContainerSnapshot snapshot, int itemId, int quantityDelta) {
+        if (quantityDelta == 0) {
+            return 0L;
+        }
+
+        int ordinal = BoneResourceScanner.getConsolidatedOrdinal(itemId);
+        if (ordinal < 0) {
+            adjustSupply(snapshot, itemId, quantityDelta);
+            return 0L;
+        }
+
+        int shardDelta = BoneResourceScanner.getShardValue(ordinal) * quantityDelta;
+        snapshot.boneCounts[ordinal] += quantityDelta;
+        snapshot.totalShards += shardDelta;
+        if (snapshot.enabled) {
+            boneCounts[ordinal] += quantityDelta;
+            totalShards += shardDelta;
+        }
+        return 1L << ordinal;
+    }
+
+    private void adjustSupply(ContainerSnapshot snapshot, int itemId, int quantityDelta) {
+        int ordinal = BoneResourceScanner.getSupplyOrdinal(itemId);
+        if (ordinal < 0) {
+            return;
+        }
+
+        snapshot.supplyCounts[ordinal] += quantityDelta;
+        if (snapshot.enabled) {
+            supplyCounts[ordinal] += quantityDelta;
+            suppliesChanged = true;
+        }
+    }
+
+    private Map<BoneType, Integer> clearTotals() {
+        // Zeroes the running totals; the per-container snapshots are left alone
+        Map<BoneType, Integer> cleared = new EnumMap<>(BoneType.class);
+        for (int i = 0; i < boneCounts.length; i++) {
+            if (boneCounts[i] != 0) {
+                cleared.put(BONE_TYPES[i], 0);
+                boneCounts[i] = 0;
+            }
+        }
+
+        for (int i = 0; i < supplyCounts.length; i++) {
+            if (supplyCounts[i] != 0) {
+                supplyCounts[i] = 0;
+                suppliesChanged = true;
+            }
+        }
+
+        totalShards = 0;
+        return cleared;
+    }
+
+    private void notifyChanged(long changedMask) {
+        if (changedMask == 0L) {
+            return;
+        }
+
+        Map<BoneType, Integer> changedCounts = new EnumMap<>(BoneType.class);
+        for (int ordinal = 0; ordinal < BONE_TYPES.length; ordinal++) {
+            if ((changedMask & (1L << ordinal)) != 0) {
+                changedCounts.put(BONE_TYPES[ordinal], boneCounts[ordinal]);
+            }
+        }
+        notifyListeners(changedCounts);
+    }
+
+    private void notifyListeners(Map<BoneType, Integer> changedCounts) {
+        for (Listener listener : listeners) {
+            listener.onBoneCountsChanged(changedCounts, totalShards);
+        }
+    }
+
+    private void notifySuppliesChanged() {
+        if (!suppliesChanged) {
+            return;
+        }
+
+        suppliesChanged = false;
+        for (SupplyListener listener : supplyListeners) {
+            listener.onSuppliesChanged(supplyCounts.clone());
+        }
+    }
+
+    private static final class ContainerSnapshot {
+        // Last seen contents of each slot
+        private int[] slotItemIds = new int[0];
+        private int[] slotQuantities = new int[0];
+
+        // This container's own counts, keyed by consolidated BoneType ordinal
+        private final int[] boneCounts = new int[BONE_TYPES.length];
+        private int totalShards;
+        private final int[] supplyCounts = new int[WineSupply.getCount()];
+
+        // Whether the counts above are included in the running total
+        private boolean enabled;
+
+        private ContainerSnapshot(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        private void clear() {
+            Arrays.fill(slotItemIds, 0);
+            Arrays.fill(slotQuantities, 0);
+            clearCounts();
+        }
+
+        private void clearCounts() {
+            Arrays.fill(boneCounts, 0);
+            Arrays.fill(supplyCounts, 0);
+            totalShards = 0;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.boneshardhelper;
+
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.game.ItemManager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Grand Exchange prices for every bone item, keyed by item ID. Prices are read on the client thread
+// (ItemManager.getItemPrice needs it) in one batch and reused until they are older than PRICE_TTL_MILLIS.
+// Untradeable items price at 0 and are left out.
+@Singleton
+public class BonePriceCache {
+
+    static final long PRICE_TTL_MILLIS = 5 * 60 * 1000;
+
+    private final ItemManager itemManager;
+    private final ClientThread clientThread;
+
+    // Replaced as a whole on refresh, so readers on any thread see a complete table
+    private volatile Map<Integer, Integer> prices = Collections.emptyMap();
+    private volatile long fetchedAtMillis = 0;
+
+    // Callbacks waiting on the refresh in flight, each queued once however often it asks; only touched on
+    // the EDT
+    private final Set<Runnable> pendingCallbacks = new LinkedHashSet<>();
+
+    @Inject
+    BonePriceCache(ItemManager itemManager, ClientThread clientThread) {
+        this.itemManager = itemManager;
+        this.clientThread = clientThread;
+    }
+
+    public Map<Integer, Integer> getPrices() {
+        // May be empty or stale; call refreshIfStale to update it
+        return prices;
+    }
+
+    public boolean isStale() {
+        return fetchedAtMillis == 0 || System.currentTimeMillis() - fetchedAtMillis > PRICE_TTL_MILLIS;
+    }
+
+    public void refreshIfStale(Runnable onRefreshed) {
+        // Called from the EDT; onRefreshed runs on the EDT once new prices are in
+        if (!isStale()) {
+            return;
+        }
+
+        // A refresh is already in flight once anything is pending
+        boolean refreshing = !pendingCallbacks.isEmpty();
+        pendingCallbacks.add(onRefreshed);
+        if (refreshing) {
+            return;
+        }
+
+        clientThread.invoke(() -> {
+            Map<Integer, Integer> fetched = new HashMap<>();
+            for (BoneType boneType : BoneType.values()) {
+                int itemId = boneType.getBaseItemId();
+                if (boneType == BoneType.BLESSED_BONE_SHARDS || fetched.containsKey(itemId)) {
+                    continue;
+                }
+
+                int price = itemManager.getItemPrice(itemId);
+                if (price > 0) {
+                    fetched.put(itemId, price);
+                }
+            }
+
+            prices = Collections.unmodifiableMap(fetched);
+            fetchedAtMillis = System.currentTimeMillis();
+
+            SwingUtilities.invokeLater(() -> {
+                List<Runnable> callbacks = new ArrayList<>(pendingCallbacks);
+                pendingCallbacks.clear();
+                callbacks.forEach(Runnable::run);
+            });
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package com.boneshardhelper;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Finds the cheapest mix of bones whose shard values add up to at least a shortfall (unbounded covering
+// knapsack). Large shortfalls are reduced before the DP: in an optimal mix, fewer than v bones can be
+// something other than the best-value bone (v = its shard value), since any v bones contain a subset
+// whose shards are a multiple of v and could be swapped for best-value bones at no extra cost. The
+// other bones therefore cover less than v * maxShardValue shards, so everything beyond that is filled
+// with best-value bones up front and the DP only runs over a few thousand states, whatever the shortfall.
+public class BonePurchaseOptimizer {
+
+    public BonePurchasePlan optimize(int shortfallShards, Map<Integer, Integer> pricesByItemId) {
+        if (shortfallShards < 0) {
+            throw new IllegalArgumentException("Shortfall cannot be negative");
+        }
+        if (pricesByItemId == null) {
+            throw new IllegalArgumentException("Prices cannot be null");
+        }
+
+        if (shortfallShards == 0) {
+            return BonePurchasePlan.NOTHING_NEEDED;
+        }
+
+        // One candidate per tradeable item; types sharing an item ID are the same bone
+        int typeCount = BoneType.values().length;
+        BoneType[] types = new BoneType[typeCount];
+        int[] values = new int[typeCount];
+        long[] prices = new long[typeCount];
+        int candidates = 0;
+
+        Set<Integer> seenItemIds = new HashSet<>();
+        for (BoneType boneType : BoneType.values()) {
+            Integer price = pricesByItemId.get(boneType.getBaseItemId());
+            if (boneType == BoneType.BLESSED_BONE_SHARDS || price == null || price <= 0
+                    || !seenItemIds.add(boneType.getBaseItemId())) {
+                continue;
+            }
+
+            types[candidates] = boneType;
+            values[candidates] = boneType.getShardValue();
+            prices[candidates] = price;
+            candidates++;
+        }
+
+        if (candidates == 0) {
+            return BonePurchasePlan.UNAVAILABLE;
+        }
+
+        // Best-value bone: lowest price per shard (compared by cross-multiplying)
+        int best = 0;
+        int maxValue = 0;
+        for (int i = 0; i < candidates; i++) {
+            if (prices[i] * values[best] < prices[best] * values[i]) {
+                best = i;
+            }
+            maxValue = Math.max(maxValue, values[i]);
+        }
+
+        long bound = (long) values[best] * maxValue;
+        int bulkCount = shortfallShards > bound ? (int) ((shortfallShards - bound) / values[best]) : 0;
+        int remaining = shortfallShards - bulkCount * values[best];
+
+        // cost[x] = cheapest mix worth exactly x shards; anything from remaining to remaining + maxValue - 1
+        // covers the rest, and an optimal mix never overshoots by a whole bone
+        int size = remaining + maxValue;
+        long[] cost = new long[size];
+        int[] lastChoice = new int[size];
+        Arrays.fill(cost, Long.MAX_VALUE);
+        cost[0] = 0;
+
+        for (int x = 1; x < size; x++) {
+            for (int i = 0; i < candidates; i++) {
+                int previous = x - values[i];
+                if (previous >= 0 && cost[previous] != Long.MAX_VALUE && cost[previous] + prices[i] < cost[x]) {
+                    cost[x] = cost[previous] + prices[i];
+                    lastChoice[x] = i;
+                }
+            }
+        }
+
+        int bestTotal = -1;
+        for (int x = remaining; x < size; x++) {
+            if (cost[x] != Long.MAX_VALUE && (bestTotal < 0 || cost[x] < cost[bestTotal])) {
+                bestTotal = x;
+            }
+        }
+
+        // Walk the choices back to per-type counts
+        int[] counts = new int[candidates];
+        counts[best] = bulkCount;
+        for (int x = bestTotal; x > 0; x -= values[lastChoice[x]]) {
+            counts[lastChoice[x]]++;
+        }
+
+        Map<BoneType, Integer> quantities = new EnumMap<>(BoneType.class);
+        long totalCost = 0;
+        long totalShards = 0;
+        for (int i = 0; i < candidates; i++) {
+            if (counts[i] > 0) {
+                quantities.put(types[i], counts[i]);
+                totalCost += prices[i] * counts[i];
+                totalShards += (long) values[i] * counts[i];
+            }
+        }
+
+        return new BonePurchasePlan(quantities, totalCost, totalShards, true);
+    }
+
+    public static double getCheapestGpPerShard(Map<Integer, Integer> pricesByItemId) {
+        // Price per shard of the best-value tradeable bone, or 0 if no prices are known
+        double cheapest = 0;
+        for (BoneType boneType : BoneType.values()) {
+            Integer price = pricesByItemId.get(boneType.getBaseItemId());
+            if (boneType == BoneType.BLESSED_BONE_SHARDS || price == null || price <= 0) {
+                continue;
+            }
+
+            double gpPerShard = (double) price / boneType.getShardValue();
+            if (cheapest == 0 || gpPerShard < cheapest) {
+                cheapest = gpPerShard;
+            }
+        }
+        return cheapest;
+    }
+}
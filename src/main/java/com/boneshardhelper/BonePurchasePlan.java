@@ -0,0 +1,54 @@
+package com.boneshardhelper;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Immutable result of BonePurchaseOptimizer: how many of each bone to buy, and what it costs.
+public final class BonePurchasePlan {
+
+    // No tradeable bones with a known price
+    static final BonePurchasePlan UNAVAILABLE = new BonePurchasePlan(Collections.emptyMap(), 0, 0, false);
+
+    static final BonePurchasePlan NOTHING_NEEDED = new BonePurchasePlan(Collections.emptyMap(), 0, 0, true);
+
+    private final Map<BoneType, Integer> quantities;
+    private final long totalCost;
+    private final long totalShards;
+    private final boolean available;
+
+    BonePurchasePlan(Map<BoneType, Integer> quantities, long totalCost, long totalShards, boolean available) {
+        this.quantities = quantities.isEmpty() ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(quantities));
+        this.totalCost = totalCost;
+        this.totalShards = totalShards;
+        this.available = available;
+    }
+
+    public Map<BoneType, Integer> getQuantities() {
+        return quantities;
+    }
+
+    public long getTotalCost() {
+        return totalCost;
+    }
+
+    public long getTotalShards() {
+        // At least the requested shortfall; may overshoot by less than one bone
+        return totalShards;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    public String toString() {
+        return "BonePurchasePlan{" +
+                "quantities=" + quantities +
+                ", totalCost=" + totalCost +
+                ", totalShards=" + totalShards +
+                ", available=" + available +
+                '}';
+    }
+}
@@ -1,16 +1,22 @@
 package com.boneshardhelper;
 
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
 import net.runelite.api.Item;
+import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemContainer;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.game.ItemManager;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @Singleton
 public class BoneResourceScanner {
 
@@ -18,56 +24,28 @@ public class BoneResourceScanner {
     private final ClientThread clientThread;
     private final ItemManager itemManager;
 
-    // Mapping from item IDs to BoneType enum values
-    // Built dynamically from the BoneType enum data
-    private static final Map<Integer, BoneType> ITEM_TO_BONE_TYPE_MAPPING = new HashMap<>();
+    private static final BoneType[] BONE_TYPES = BoneType.values();
 
-    // Mapping for consolidating bone types (unblessed -> blessed)
-    private static final Map<BoneType, BoneType> BONE_TYPE_CONSOLIDATION = new HashMap<>();
+    private static final WineSupply[] WINE_SUPPLIES = WineSupply.values();
+
+    // Consolidated type and shard value for each BoneType ordinal
+    private static final BoneType[] CONSOLIDATED_BY_ORDINAL = new BoneType[BONE_TYPES.length];
+    private static final int[] SHARD_VALUE_BY_ORDINAL = new int[BONE_TYPES.length];
 
     static {
-        // Build mappings from the BoneType enum data
-        for (BoneType boneType : BoneType.values()) {
-            int itemId = boneType.getBaseItemId();
-            if (itemId > 0) {
-                ITEM_TO_BONE_TYPE_MAPPING.put(itemId, boneType);
-
-                // Map noted versions (base + 1) for unblessed bones only
-                if (!boneType.name().startsWith("BLESSED_") && !boneType.name().equals("SUN_KISSED_BONES")) {
-                    ITEM_TO_BONE_TYPE_MAPPING.put(itemId + 1, boneType);
-                }
-            }
+        for (BoneType boneType : BONE_TYPES) {
+            CONSOLIDATED_BY_ORDINAL[boneType.ordinal()] = boneType.getConsolidatedType();
+            SHARD_VALUE_BY_ORDINAL[boneType.ordinal()] = boneType.getShardValue();
         }
-
-        // Build consolidation mapping (unblessed -> blessed)
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BONES, BoneType.BLESSED_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BAT_BONES, BoneType.BLESSED_BAT_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BIG_BONES, BoneType.BLESSED_BIG_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BABYDRAGON_BONES, BoneType.BLESSED_BABYDRAGON_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.DRAGON_BONES, BoneType.BLESSED_DRAGON_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.WYVERN_BONES, BoneType.BLESSED_WYVERN_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.DRAKE_BONES, BoneType.BLESSED_DRAKE_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.FAYRG_BONES, BoneType.BLESSED_FAYRG_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.LAVA_DRAGON_BONES, BoneType.BLESSED_LAVA_DRAGON_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.RAURG_BONES, BoneType.BLESSED_RAURG_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.DAGANNOTH_BONES, BoneType.BLESSED_DAGANNOTH_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.OURG_BONES, BoneType.BLESSED_OURG_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.SUPERIOR_DRAGON_BONES, BoneType.BLESSED_SUPERIOR_DRAGON_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BABYWYRM_BONES, BoneType.BLESSED_BABYWYRM_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.WYRMLING_BONES, BoneType.BLESSED_BABYWYRM_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.WYRM_BONES, BoneType.BLESSED_WYRM_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.HYDRA_BONES, BoneType.BLESSED_HYDRA_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.ZOGRE_BONES, BoneType.BLESSED_ZOGRE_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.FROST_DRAGON_BONES, BoneType.BLESSED_FROST_DRAGON_BONES);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.STRYKEWYRM_BONES, BoneType.BLESSED_STRYKEWYRM_BONES);
-
-        // Consolidate blessed bone statuette variations
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BLESSED_BONE_STATUETTE1, BoneType.BLESSED_BONE_STATUETTE0);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BLESSED_BONE_STATUETTE2, BoneType.BLESSED_BONE_STATUETTE0);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BLESSED_BONE_STATUETTE3, BoneType.BLESSED_BONE_STATUETTE0);
-        BONE_TYPE_CONSOLIDATION.put(BoneType.BLESSED_BONE_STATUETTE4, BoneType.BLESSED_BONE_STATUETTE0);
     }
 
+    // Item ID lookup tables. Until resolveItemVariants() has read the item definitions, noted IDs fall back
+    // to the static guess in BoneType metadata; the resolved tables then replace these as a whole.
+    private static volatile ItemTables itemTables = ItemTables.fromMetadata();
+
+    // Reusable accumulator for scanInventory(), indexed by BoneType ordinal (client thread only)
+    private final int[] scanCounts = new int[BONE_TYPES.length];
+
     @Inject
     public BoneResourceScanner(Client client, ClientThread clientThread, ItemManager itemManager) {
         this.client = client;
@@ -83,32 +61,86 @@ public class BoneResourceScanner {
         return itemManager;
     }
 
+    public void resolveItemVariants(Runnable onResolved) {
+        // Reads each bone's noted and placeholder IDs, and each wine supply's noted ID, from its item
+        // definition. Definitions are only available on the client thread once the cache has loaded, so
+        // this retries until then. Scans keep using the array lookups; item definitions are never read
+        // while scanning. onResolved runs on the client thread right after the new tables are in place,
+        // so counts taken with the old tables can be rebuilt.
+        clientThread.invoke(() -> {
+            if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal()) {
+                return false;
+            }
+
+            Map<Integer, BoneType> items = ItemTables.baseItems();
+            for (BoneType boneType : BONE_TYPES) {
+                if (!ownsBaseItem(items, boneType)) {
+                    continue;
+                }
+
+                ItemComposition composition = itemManager.getItemComposition(boneType.getBaseItemId());
+                registerVariant(items, composition.getLinkedNoteId(), boneType);
+                registerVariant(items, composition.getPlaceholderId(), boneType);
+            }
+
+            Map<Integer, WineSupply> supplies = ItemTables.baseSupplies();
+            for (WineSupply supply : WINE_SUPPLIES) {
+                int notedItemId = itemManager.getItemComposition(supply.getItemId()).getLinkedNoteId();
+                if (notedItemId > 0) {
+                    supplies.putIfAbsent(notedItemId, supply);
+                }
+            }
+
+            itemTables = new ItemTables(items, supplies);
+            log.debug("Resolved {} bone and {} wine supply item IDs from item definitions", items.size(),
+                    supplies.size());
+            onResolved.run();
+            return true;
+        });
+    }
+
     public Map<BoneType, Integer> scanInventory() {
-        Map<BoneType, Integer> bones = new HashMap<>();
+        Arrays.fill(scanCounts, 0);
+        scanContainer(client.getItemContainer(BoneContainerTracker.TrackedContainer.INVENTORY.getContainerId()),
+                scanCounts);
+
+        Map<BoneType, Integer> bones = new EnumMap<>(BoneType.class);
+        for (int ordinal = 0; ordinal < scanCounts.length; ordinal++) {
+            if (scanCounts[ordinal] > 0) {
+                bones.put(BONE_TYPES[ordinal], scanCounts[ordinal]);
+            }
+        }
+
+        return bones;
+    }
 
-        ItemContainer inventory = client.getItemContainer(93); // Inventory container ID
-        if (inventory == null) {
-            return bones;
+    public static int scanContainer(ItemContainer container, int[] counts) {
+        // Adds the consolidated bone counts of a container into counts (indexed by BoneType ordinal)
+        // and returns the container's total shard value. Allocates nothing.
+        if (container == null) {
+            return 0;
         }
 
-        Item[] items = inventory.getItems();
+        Item[] items = container.getItems();
         if (items == null) {
-            return bones;
+            return 0;
         }
 
+        byte[] consolidatedOrdinals = itemTables.consolidatedOrdinals;
+        int totalShards = 0;
         for (Item item : items) {
-            if (item == null || item.getId() <= 0) {
+            if (item == null) {
                 continue;
             }
 
-            BoneType boneType = getBoneTypeForItem(item.getId());
-            if (boneType != null) {
-                BoneType consolidatedType = consolidateBoneType(boneType);
-                bones.merge(consolidatedType, item.getQuantity(), Integer::sum);
+            int ordinal = lookup(consolidatedOrdinals, item.getId());
+            if (ordinal >= 0) {
+                counts[ordinal] += item.getQuantity();
+                totalShards += SHARD_VALUE_BY_ORDINAL[ordinal] * item.getQuantity();
             }
         }
 
-        return bones;
+        return totalShards;
     }
 
     public int calculateTotalShards(Map<BoneType, Integer> boneResources) {
@@ -122,15 +154,113 @@ public class BoneResourceScanner {
     }
 
     public static BoneType getBoneTypeForItem(int itemId) {
-        return ITEM_TO_BONE_TYPE_MAPPING.get(itemId);
+        int ordinal = lookup(itemTables.boneOrdinals, itemId);
+        return ordinal >= 0 ? BONE_TYPES[ordinal] : null;
     }
 
     public static boolean isBoneItem(int itemId) {
-        return ITEM_TO_BONE_TYPE_MAPPING.containsKey(itemId);
+        return lookup(itemTables.boneOrdinals, itemId) >= 0;
+    }
+
+    static int getConsolidatedOrdinal(int itemId) {
+        // Ordinal of the consolidated BoneType for an item, or -1 if it isn't a bone
+        return lookup(itemTables.consolidatedOrdinals, itemId);
+    }
+
+    static int getSupplyOrdinal(int itemId) {
+        // WineSupply ordinal for an item, or -1 if it isn't a wine supply
+        return lookup(itemTables.supplyOrdinals, itemId);
+    }
+
+    static int getShardValue(int ordinal) {
+        return SHARD_VALUE_BY_ORDINAL[ordinal];
     }
 
-    private BoneType consolidateBoneType(BoneType boneType) {
+    static BoneType consolidateBoneType(BoneType boneType) {
         // Consolidates bone types (unblessed -> blessed, statuette variations -> base).
-        return BONE_TYPE_CONSOLIDATION.getOrDefault(boneType, boneType);
+        return CONSOLIDATED_BY_ORDINAL[boneType.ordinal()];
+    }
+
+    private static int lookup(byte[] table, int itemId) {
+        if (itemId <= 0 || itemId >= table.length) {
+            return -1;
+        }
+        return table[itemId] - 1;
+    }
+
+    private static boolean ownsBaseItem(Map<Integer, BoneType> items, BoneType boneType) {
+        // Variants follow whichever type their base item ID resolved to
+        return boneType.hasBaseItem() && items.get(boneType.getBaseItemId()) == boneType;
+    }
+
+    private static void registerVariant(Map<Integer, BoneType> items, int itemId, BoneType boneType) {
+        // Base IDs registered first take precedence over any variant that happens to share an ID
+        if (itemId > 0) {
+            items.putIfAbsent(itemId, boneType);
+        }
+    }
+
+    // Dense lookup tables indexed by item ID. Entries hold (ordinal + 1) so that 0 means "not a bone" or
+    // "not a wine supply".
+    private static final class ItemTables {
+        private final byte[] boneOrdinals;
+        private final byte[] consolidatedOrdinals;
+        private final byte[] supplyOrdinals;
+
+        private ItemTables(Map<Integer, BoneType> items, Map<Integer, WineSupply> supplies) {
+            int maxItemId = 0;
+            for (int itemId : items.keySet()) {
+                maxItemId = Math.max(maxItemId, itemId);
+            }
+
+            boneOrdinals = new byte[maxItemId + 1];
+            consolidatedOrdinals = new byte[maxItemId + 1];
+            for (Map.Entry<Integer, BoneType> entry : items.entrySet()) {
+                BoneType boneType = entry.getValue();
+                boneOrdinals[entry.getKey()] = (byte) (boneType.ordinal() + 1);
+                consolidatedOrdinals[entry.getKey()] =
+                        (byte) (CONSOLIDATED_BY_ORDINAL[boneType.ordinal()].ordinal() + 1);
+            }
+
+            int maxSupplyItemId = 0;
+            for (int itemId : supplies.keySet()) {
+                maxSupplyItemId = Math.max(maxSupplyItemId, itemId);
+            }
+
+            supplyOrdinals = new byte[maxSupplyItemId + 1];
+            for (Map.Entry<Integer, WineSupply> entry : supplies.entrySet()) {
+                supplyOrdinals[entry.getKey()] = (byte) (entry.getValue().ordinal() + 1);
+            }
+        }
+
+        private static ItemTables fromMetadata() {
+            Map<Integer, BoneType> items = baseItems();
+            for (BoneType boneType : BONE_TYPES) {
+                if (ownsBaseItem(items, boneType)) {
+                    registerVariant(items, boneType.getMetadata().getNotedItemId(), boneType);
+                }
+            }
+            // Noted wine supplies are only known once the item definitions have been read
+            return new ItemTables(items, baseSupplies());
+        }
+
+        private static Map<Integer, BoneType> baseItems() {
+            // Where two types share an item ID the later one wins, as it always has
+            Map<Integer, BoneType> items = new HashMap<>();
+            for (BoneType boneType : BONE_TYPES) {
+                if (boneType.hasBaseItem()) {
+                    items.put(boneType.getBaseItemId(), boneType);
+                }
+            }
+            return items;
+        }
+
+        private static Map<Integer, WineSupply> baseSupplies() {
+            Map<Integer, WineSupply> supplies = new HashMap<>();
+            for (WineSupply supply : WINE_SUPPLIES) {
+                supplies.put(supply.getItemId(), supply);
+            }
+            return supplies;
+        }
     }
-}
\ No newline at end of file
+}
@@ -12,7 +12,10 @@ public interface BoneShardHelperConfig extends Config {
     @ConfigSection(name = "Object Highlighting", description = "Configure prayer object highlighting", position = 0)
     String highlightingSection = "highlighting";
 
-    @ConfigSection(name = "Debug Settings", description = "Configure debug and development options", position = 1)
+    @ConfigSection(name = "Resources", description = "Configure which resources are counted", position = 1)
+    String resourcesSection = "resources";
+
+    @ConfigSection(name = "Debug Settings", description = "Configure debug and development options", position = 2)
     String debugSection = "debug";
 
     // Object Highlighting Settings
@@ -39,6 +42,32 @@ public interface BoneShardHelperConfig extends Config {
         return Color.GREEN;
     }
 
+    // Resource Settings
+    @ConfigItem(keyName = "includeBankedBones", name = "Include Banked Bones", description = "Count bones from your last seen bank in both modes", section = resourcesSection, position = 0)
+    default boolean includeBankedBones() {
+        return false;
+    }
+
+    @ConfigItem(keyName = "includeInventoryBones", name = "Include Inventory", description = "Count bones carried in your inventory", section = resourcesSection, position = 1)
+    default boolean includeInventoryBones() {
+        return true;
+    }
+
+    @ConfigItem(keyName = "includeLootingBagBones", name = "Include Looting Bag", description = "Count bones from your looting bag, as last seen when it was checked", section = resourcesSection, position = 2)
+    default boolean includeLootingBagBones() {
+        return true;
+    }
+
+    @ConfigItem(keyName = "includeEquippedBones", name = "Include Equipment", description = "Count bones in your worn equipment slots", section = resourcesSection, position = 3)
+    default boolean includeEquippedBones() {
+        return false;
+    }
+
+    @ConfigItem(keyName = "includeGroupStorageBones", name = "Include Group Storage", description = "Count bones from your group ironman storage, as last seen this session", section = resourcesSection, position = 4)
+    default boolean includeGroupStorageBones() {
+        return false;
+    }
+
     // Debug Settings
     @ConfigItem(keyName = "debugMode", name = "Debug Mode", description = "Enable debug mode to show additional debugging information and tables", section = debugSection, position = 0)
     default boolean debugMode() {
@@ -4,7 +4,7 @@ import java.awt.BorderLayout;
 import java.awt.FlowLayout;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
@@ -19,7 +19,6 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Experience;
 import net.runelite.api.Skill;
-import net.runelite.client.callback.ClientThread;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
@@ -52,8 +51,8 @@ class BoneShardHelperPanel extends PluginPanel {
 	// Client for getting current player stats
 	private final Client client;
 
-	// Resource scanner for inventory scanning
-	private final BoneResourceScanner resourceScanner;
+	// Pipeline for inventory scanning
+	private final InventoryScanPipeline scanPipeline;
 
 	// Config for plugin settings
 	private final BoneShardHelperConfig config;
@@ -64,25 +63,48 @@ class BoneShardHelperPanel extends PluginPanel {
 	// Sample text label that changes based on active tab
 	private JLabel sampleTextLabel;
 
+	// Live inventory bone counts maintained from tracker deltas (only touched on the EDT)
+	private final Map<BoneType, Integer> liveInventoryBones = new EnumMap<>(BoneType.class);
+	private int liveInventoryShards = 0;
+
+	// Banked bones included in both modes when enabled
+	private final BankBoneSnapshot bankBoneSnapshot;
+
+	// Merges bursts of input events into a single recalculation
+	private final RecalculationScheduler recalculationScheduler = new RecalculationScheduler(
+			this::runScheduledRecalculation);
+
+	// Bank counts last applied to the panels (only touched on the EDT)
+	private BoneBreakdown appliedBankBones = BoneBreakdown.EMPTY;
+
 	@Inject
-	BoneShardHelperPanel(Client client, BoneResourceScanner resourceScanner, BoneShardHelperConfig config,
-			ItemManager itemManager, net.runelite.client.hiscore.HiscoreClient hiscoreClient) {
+	BoneShardHelperPanel(Client client, InventoryScanPipeline scanPipeline, BoneShardHelperConfig config,
+			ItemManager itemManager, HiscoreService hiscoreService,
+			BoneContainerTracker boneContainerTracker, BankBoneSnapshot bankBoneSnapshot, BonePriceCache priceCache,
+			XpRateTracker xpRateTracker) {
 		super();
 		this.client = client;
-		this.resourceScanner = resourceScanner;
+		this.scanPipeline = scanPipeline;
 		this.config = config;
+		this.bankBoneSnapshot = bankBoneSnapshot;
+
+		// Both modes share one engine so they also share its result cache
+		PrayerCalculationEngine calculationEngine = new PrayerCalculationEngine();
 
 		// Initialize tab panels (each with their own UI components)
-		goalModePanel = new GoalModePanel();
-		resourceModePanel = new ResourceModePanel(config);
+		goalModePanel = new GoalModePanel(calculationEngine);
+		resourceModePanel = new ResourceModePanel(config, calculationEngine);
 
 		// Set up synchronized event handling for checkboxes and scan buttons
 		setupSynchronizedEventHandlers();
 
 		// Inject dependencies into Goal Mode panel
-		goalModePanel.setResourceScanner(resourceScanner);
+		goalModePanel.setScanPipeline(scanPipeline);
+		goalModePanel.setRecalculationScheduler(recalculationScheduler);
 		goalModePanel.setItemManager(itemManager);
-		goalModePanel.setHiscoreClient(hiscoreClient);
+		goalModePanel.setHiscoreService(hiscoreService);
+		goalModePanel.setPriceCache(priceCache);
+		goalModePanel.setXpRateTracker(xpRateTracker);
 
 		// Set up debug mode in Goal Mode panel
 		goalModePanel.setDebugMode(config.debugMode(), this);
@@ -97,6 +119,18 @@ class BoneShardHelperPanel extends PluginPanel {
 		// Set up resource scanning functionality
 		setupResourceScanning();
 
+		// Keep both modes up to date as the counted containers change, without needing a rescan
+		boneContainerTracker.addListener(this::onInventoryBonesChanged);
+		boneContainerTracker.addSupplyListener(supplyCounts -> javax.swing.SwingUtilities.invokeLater(
+				() -> resourceModePanel.updateSupplies(supplyCounts)));
+		bankBoneSnapshot.addListener(
+				bankBones -> javax.swing.SwingUtilities.invokeLater(this::refreshBankedBones));
+		refreshBankedBones();
+
+		// Follow Prayer XP as it is gained, without polling the client
+		xpRateTracker.addListener((previousXP, currentXP) -> javax.swing.SwingUtilities.invokeLater(
+				() -> onPrayerXpChanged(previousXP, currentXP)));
+
 		// Set up main panel layout
 		setLayout(new BorderLayout());
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
@@ -184,16 +218,10 @@ class BoneShardHelperPanel extends PluginPanel {
 		// Update zealot robes warning to reflect current checkbox state
 		goalModePanel.updateZealotRobesWarningDisplay();
 
-		// Update calculations to reflect any changes made in Resource Mode
-		// Call directly since tab selection might not be complete yet
-		try {
-			goalModePanel.updateBoneShardsRequired();
-		} catch (Exception e) {
-			handleCalculationError("Error updating calculations on mode switch", e);
-		}
-
-		// Trigger resource planning recalculation (same as XP field listener)
-		triggerResourcePlanningRecalculation();
+		// Update calculations and resource planning to reflect any changes made in Resource Mode,
+		// folding in anything still pending. Run now since tab selection might not be complete yet
+		recalculationScheduler.request(RecalculationScheduler.GOAL_MODE | RecalculationScheduler.RESOURCE_PLANNING);
+		recalculationScheduler.flush();
 
 		return true;
 	}
@@ -218,8 +246,9 @@ class BoneShardHelperPanel extends PluginPanel {
 			performResourceScan();
 		}
 
-		// Trigger resource planning recalculation (same as XP field listener)
-		triggerResourcePlanningRecalculation();
+		// Trigger resource planning recalculation along with anything still pending
+		recalculationScheduler.request(RecalculationScheduler.RESOURCE_PLANNING);
+		recalculationScheduler.flush();
 
 		return true;
 	}
@@ -360,16 +389,9 @@ class BoneShardHelperPanel extends PluginPanel {
 			try {
 				// Test that reading of current prayer XP from game client works correctly
 				currentXP = client.getSkillExperience(Skill.PRAYER);
-				currentLevel = Experience.getLevelForXp(currentXP);
+				currentLevel = PrayerConstants.getLevelForXP(currentXP);
 				dataAvailable = true;
 
-				// Validate that XP and level are consistent
-				int expectedLevel = Experience.getLevelForXp(currentXP);
-				if (currentLevel != expectedLevel) {
-					log.warn("Prayer XP/Level inconsistency detected. XP: {}, Level: {}, Expected: {}",
-							currentXP, currentLevel, expectedLevel);
-				}
-
 				// Validate XP bounds
 				if (currentXP < 0 || currentXP > Experience.MAX_SKILL_XP) {
 					log.warn("Prayer XP out of bounds: {}", currentXP);
@@ -386,6 +408,15 @@ class BoneShardHelperPanel extends PluginPanel {
 					currentLevel = null;
 				}
 
+				// Cross-check the plugin's level lookup against RuneLite's own XP table
+				if (dataAvailable) {
+					int clientLevel = Experience.getLevelForXp(currentXP);
+					if (currentLevel != clientLevel) {
+						log.warn("Prayer XP/Level inconsistency detected. XP: {}, Level: {}, RuneLite level: {}",
+								currentXP, currentLevel, clientLevel);
+					}
+				}
+
 				if (fromPlugin && dataAvailable) {
 					log.debug("Prayer XP detection working: Level {} ({} XP)", currentLevel,
 							String.format("%,d", currentXP));
@@ -412,7 +443,7 @@ class BoneShardHelperPanel extends PluginPanel {
 					if (currentLevel >= 99) {
 						// For level 99+ players, default to 200M XP goal
 						targetXP = Experience.MAX_SKILL_XP;
-						targetLevel = Experience.getLevelForXp(targetXP);
+						targetLevel = PrayerConstants.getLevelForXP(targetXP);
 					} else {
 						// For lower level players, target next level
 						targetLevel = Math.min(currentLevel + 1, Experience.MAX_VIRT_LEVEL);
@@ -425,8 +456,9 @@ class BoneShardHelperPanel extends PluginPanel {
 					setTargetLevelInput(targetLevel);
 					setTargetXPInput(String.format("%,d", targetXP));
 
-					// Update Goal Mode calculations after refresh
-					updateGoalModeCalculations();
+					// Update calculations after refresh
+					recalculationScheduler.request(
+							RecalculationScheduler.GOAL_MODE | RecalculationScheduler.RESOURCE_MODE);
 				} catch (Exception e) {
 					handleCalculationError("Error updating fields after refresh", e);
 				}
@@ -472,8 +504,8 @@ class BoneShardHelperPanel extends PluginPanel {
 			int currentXP = Experience.getXpForLevel(currentLevel);
 			setCurrentXPInput(String.format("%,d", currentXP));
 
-			// Update Goal Mode calculations
-			updateGoalModeCalculations();
+			// Current XP feeds both modes
+			recalculationScheduler.request(RecalculationScheduler.GOAL_MODE | RecalculationScheduler.RESOURCE_MODE);
 		} catch (Exception e) {
 			handleCalculationError("Error updating current level", e);
 		}
@@ -483,14 +515,14 @@ class BoneShardHelperPanel extends PluginPanel {
 		try {
 			clearValidationError();
 			int currentXP = enforceXPBounds(getCurrentXPInput());
-			int currentLevel = Experience.getLevelForXp(currentXP);
+			int currentLevel = PrayerConstants.getLevelForXP(currentXP);
 			setCurrentLevelInput(currentLevel);
 
 			// Format the XP value with commas
 			setCurrentXPInput(String.format("%,d", currentXP));
 
-			// Update Goal Mode calculations
-			updateGoalModeCalculations();
+			// Current XP feeds both modes
+			recalculationScheduler.request(RecalculationScheduler.GOAL_MODE | RecalculationScheduler.RESOURCE_MODE);
 		} catch (Exception e) {
 			handleCalculationError("Error updating current XP", e);
 		}
@@ -515,8 +547,8 @@ class BoneShardHelperPanel extends PluginPanel {
 			int calculatedTargetXP = Math.min(Experience.getXpForLevel(targetLevel), maxPossibleXP);
 			setTargetXPInput(String.format("%,d", calculatedTargetXP));
 
-			// Update Goal Mode calculations
-			updateGoalModeCalculations();
+			// Targets only affect Goal Mode
+			recalculationScheduler.request(RecalculationScheduler.GOAL_MODE);
 		} catch (Exception e) {
 			handleCalculationError("Error updating target level", e);
 		}
@@ -526,32 +558,45 @@ class BoneShardHelperPanel extends PluginPanel {
 		try {
 			clearValidationError();
 			int targetXP = enforceXPBounds(getTargetXPInput());
-			int targetLevel = Experience.getLevelForXp(targetXP);
+			int targetLevel = PrayerConstants.getLevelForXP(targetXP);
 			setTargetLevelInput(targetLevel);
 
 			// Format the XP value with commas
 			setTargetXPInput(String.format("%,d", targetXP));
 
-			// Update Goal Mode calculations
-			updateGoalModeCalculations();
+			// Targets only affect Goal Mode
+			recalculationScheduler.request(RecalculationScheduler.GOAL_MODE);
 		} catch (Exception e) {
 			handleCalculationError("Error updating target XP", e);
 		}
 	}
 
-	private void updateGoalModeCalculations() {
-		// Update Goal Mode calculation results when inputs change.
-		if (goalModeTab.isSelected()) {
+	private void runScheduledRecalculation(int targets) {
+		// Runs once per burst of input events, reading the latest field values
+		if ((targets & RecalculationScheduler.GOAL_MODE) != 0) {
 			try {
 				goalModePanel.updateBoneShardsRequired();
 			} catch (Exception e) {
 				handleCalculationError("Error updating calculations", e);
 			}
 		}
+
+		if ((targets & RecalculationScheduler.RESOURCE_MODE) != 0) {
+			try {
+				// Recalculate using existing data with the new settings (no inventory rescan needed)
+				resourceModePanel.recalculateWithCurrentSettings();
+			} catch (Exception e) {
+				handleCalculationError("Error updating Resource Mode calculations", e);
+			}
+		}
+
+		if ((targets & RecalculationScheduler.RESOURCE_PLANNING) != 0) {
+			triggerResourcePlanningRecalculation();
+		}
 	}
 
 	public void performResourceModeResourceScan() {
-		if (resourceScanner == null) {
+		if (scanPipeline == null) {
 			resourceModePanel.updateDebugError("Resource scanner not available");
 			return;
 		}
@@ -559,44 +604,112 @@ class BoneShardHelperPanel extends PluginPanel {
 		try {
 			resourceModePanel.updateDebugStatus("Scanning inventory...");
 
-			// Use ClientThread to safely access game data
-			resourceScanner.getClientThread().invoke(() -> {
+			// Tracker totals are copied on the client thread, combined on the worker, then shown here on the EDT
+			int generation = recalculationScheduler.startAsync(RecalculationScheduler.RESOURCE_MODE);
+			scanPipeline.scanInventory(getIncludedBankBones(), result -> {
+				if (!recalculationScheduler.isCurrent(RecalculationScheduler.RESOURCE_MODE, generation)) {
+					return;
+				}
+
 				try {
-					// Scan inventory for bones
-					Map<BoneType, Integer> inventoryBones = resourceScanner.scanInventory();
-
-					// Calculate current total shards from inventory
-					int currentShards = resourceScanner.calculateTotalShards(inventoryBones);
-
-					// Update UI on EDT
-					javax.swing.SwingUtilities.invokeLater(() -> {
-						try {
-							// Update resource breakdown table
-							resourceModePanel.updateResourceBreakdown(inventoryBones);
-
-							// Update achievable level calculation (use debug override if available)
-							int currentXP = resourceModePanel.getCurrentXPInput();
-							boolean useSunfireWine = resourceModePanel.isSunfireWineSelected();
-							int effectiveShards = resourceModePanel.getEffectiveTotalShards(currentShards);
-							resourceModePanel.updateAchievableLevel(effectiveShards, currentXP, useSunfireWine);
-
-							// Show success message
-							resourceModePanel.updateDebugSuccess("Resource display updated");
-						} catch (Exception e) {
-							resourceModePanel.updateDebugError("Error updating display: " + e.getMessage());
-						}
-					});
+					// Update resource breakdown table
+					resourceModePanel.updateResourceBreakdown(result.getBones().asMap());
+
+					// Update achievable level calculation (use debug override if available)
+					int currentXP = resourceModePanel.getCurrentXPInput();
+					boolean useSunfireWine = resourceModePanel.isSunfireWineSelected();
+					int effectiveShards = resourceModePanel.getEffectiveTotalShards(result.getTotalShards());
+					resourceModePanel.updateAchievableLevel(effectiveShards, currentXP, useSunfireWine);
+
+					// Show success message
+					resourceModePanel.updateDebugSuccess("Resource display updated");
 				} catch (Exception e) {
-					javax.swing.SwingUtilities.invokeLater(() -> {
-						resourceModePanel.updateDebugError("Error scanning inventory: " + e.getMessage());
-					});
+					resourceModePanel.updateDebugError("Error updating display: " + e.getMessage());
 				}
-			});
+			}, e -> resourceModePanel.updateDebugError("Error scanning inventory: " + e.getMessage()));
 		} catch (Exception e) {
 			resourceModePanel.updateDebugError("Error: " + e.getMessage());
 		}
 	}
 
+	private void onPrayerXpChanged(int previousXP, int currentXP) {
+		// Only follow the game while the fields still show the previous XP, so a hand-entered value is kept
+		if (previousXP < 0 || goalModePanel.getCurrentXPInput() != previousXP) {
+			return;
+		}
+
+		setCurrentLevelInput(PrayerConstants.getLevelForXP(currentXP));
+		setCurrentXPInput(String.format("%,d", currentXP));
+		recalculationScheduler.request(RecalculationScheduler.GOAL_MODE | RecalculationScheduler.RESOURCE_MODE);
+	}
+
+	private void onInventoryBonesChanged(Map<BoneType, Integer> changedCounts, int totalShards) {
+		// Called on the client thread - copy the changed totals and apply them on the EDT
+		Map<BoneType, Integer> changes = new EnumMap<>(changedCounts);
+		javax.swing.SwingUtilities.invokeLater(() -> applyInventoryBoneChanges(changes, totalShards));
+	}
+
+	private void applyInventoryBoneChanges(Map<BoneType, Integer> changes, int totalShards) {
+		try {
+			Map<BoneType, Integer> rowCounts = new EnumMap<>(BoneType.class);
+			for (Map.Entry<BoneType, Integer> entry : changes.entrySet()) {
+				if (entry.getValue() > 0) {
+					liveInventoryBones.put(entry.getKey(), entry.getValue());
+				} else {
+					liveInventoryBones.remove(entry.getKey());
+				}
+				rowCounts.put(entry.getKey(), entry.getValue() + appliedBankBones.getCount(entry.getKey()));
+			}
+			liveInventoryShards = totalShards;
+
+			// Anything scanned before this change is now older than what is shown
+			recalculationScheduler.invalidate(RecalculationScheduler.RESOURCE_MODE);
+
+			// Resource Mode only needs the rows that changed; Goal Mode only needs the new total
+			resourceModePanel.applyBoneCountChanges(rowCounts, totalShards + appliedBankBones.getTotalShards());
+			goalModePanel.onInventoryBonesChanged(liveInventoryBones, totalShards);
+		} catch (Exception e) {
+			log.error("Prayer Calculator: Error applying inventory changes", e);
+		}
+	}
+
+	public void updateIncludeBankedBones(boolean includeBankedBones) {
+		// The config value is read again in refreshBankedBones
+		javax.swing.SwingUtilities.invokeLater(this::refreshBankedBones);
+	}
+
+	private BoneBreakdown getIncludedBankBones() {
+		// Safe to call from any thread
+		return config.includeBankedBones() ? bankBoneSnapshot.getBones() : BoneBreakdown.EMPTY;
+	}
+
+	private void refreshBankedBones() {
+		// Re-applies every row touched by either the previous or the new bank counts
+		BoneBreakdown previous = appliedBankBones;
+		BoneBreakdown current = getIncludedBankBones();
+		if (previous.equals(current)) {
+			return;
+		}
+		appliedBankBones = current;
+		recalculationScheduler.invalidate(RecalculationScheduler.RESOURCE_MODE);
+
+		try {
+			Map<BoneType, Integer> rowCounts = new EnumMap<>(BoneType.class);
+			for (BoneType boneType : previous.asMap().keySet()) {
+				rowCounts.put(boneType, liveInventoryBones.getOrDefault(boneType, 0) + current.getCount(boneType));
+			}
+			for (BoneType boneType : current.asMap().keySet()) {
+				rowCounts.put(boneType, liveInventoryBones.getOrDefault(boneType, 0) + current.getCount(boneType));
+			}
+
+			resourceModePanel.applyBoneCountChanges(rowCounts, liveInventoryShards + current.getTotalShards());
+			goalModePanel.setBankedBones(current);
+			goalModePanel.onInventoryBonesChanged(liveInventoryBones, liveInventoryShards);
+		} catch (Exception e) {
+			log.error("Prayer Calculator: Error applying bank changes", e);
+		}
+	}
+
 	private void handleCalculationError(String context, Exception e) {
 		log.error("Prayer Calculator: {}", context, e);
 		showValidationError("Calculation error: Please check your input values");
@@ -668,195 +781,80 @@ class BoneShardHelperPanel extends PluginPanel {
 			return;
 		}
 
-		if (resourceScanner == null) {
+		if (scanPipeline == null) {
 			resourceModePanel.updateDebugError("Resource scanner unavailable");
 			return;
 		}
 
-		ClientThread clientThread = resourceScanner.getClientThread();
-		if (clientThread == null) {
-			resourceModePanel.updateDebugError("Client thread unavailable");
-			return;
-		}
-
-		// Execute inventory access on ClientThread with error handling
-		clientThread.invoke(() -> {
-			try {
-				resourceModePanel.updateDebugStatus("Accessing inventory...");
+		resourceModePanel.updateDebugStatus("Accessing inventory...");
 
-				// Get inventory container with validation
-				net.runelite.api.ItemContainer inventory = client.getItemContainer(93);
-				if (inventory == null) {
-					resourceModePanel.updateDebugError("Inventory not accessible - make sure you're logged in");
-					return;
-				}
+		// Only the tracker's counted totals are copied on the client thread; banked bones (when enabled) are
+		// captured now and added by the worker
+		int generation = recalculationScheduler.startAsync(RecalculationScheduler.RESOURCE_MODE);
+		scanPipeline.scanInventory(getIncludedBankBones(), result -> {
+			// A newer scan or live tracker update has already been shown
+			if (recalculationScheduler.isCurrent(RecalculationScheduler.RESOURCE_MODE, generation)) {
+				applyResourceScan(result);
+			}
+		}, ex -> {
+			// Requirement 10.5: Log errors without crashing RuneLite
+			log.error("Prayer Calculator: Resource scan failed", ex);
+			resourceModePanel.updateDebugError("Scan failed: " + ex.getMessage());
+		});
+	}
 
-				// Get items array with validation
-				net.runelite.api.Item[] items = inventory.getItems();
-				if (items == null) {
-					resourceModePanel.updateDebugError("Inventory items not accessible");
-					return;
-				}
+	private void applyResourceScan(InventoryScanResult result) {
+		// Publishes a finished scan to Resource Mode (runs on the EDT)
+		try {
+			if (!result.isInventoryAvailable()) {
+				resourceModePanel.updateDebugError("Inventory not accessible - make sure you're logged in");
+				return;
+			}
 
-				// Process inventory items with error handling
-				Map<Integer, String[]> debugInfo = new HashMap<>();
-				Map<BoneType, Integer> boneResources = new HashMap<>();
-				int totalItems = 0;
-				int errorCount = 0;
-
-				for (int i = 0; i < items.length; i++) {
-					try {
-						net.runelite.api.Item item = items[i];
-						if (item == null || item.getId() <= 0) {
-							continue;
-						}
-
-						totalItems++;
-						int itemId = item.getId();
-						int quantity = item.getQuantity();
-
-						// Validate quantity bounds
-						if (quantity < 0 || quantity > Integer.MAX_VALUE / 1000) {
-							errorCount++;
-							continue;
-						}
-
-						// Get proper item name using ItemManager with error handling
-						String itemName = "Item " + itemId;
-						try {
-							if (resourceScanner.getItemManager() != null) {
-								itemName = resourceScanner.getItemManager().getItemComposition(itemId).getMembersName();
-							}
-						} catch (Exception e) {
-							itemName = "Item " + itemId + " (name error)";
-							errorCount++;
-						}
-
-						// Check if it's a bone item with error handling
-						BoneType boneType = null;
-						try {
-							boneType = BoneResourceScanner.getBoneTypeForItem(itemId);
-							if (boneType != null) {
-								boneResources.merge(boneType, quantity, Integer::sum);
-								itemName += " [BONE: " + boneType.name() + "]";
-							}
-						} catch (Exception e) {
-							errorCount++;
-							// Continue processing other items
-						}
-
-						// Add to debug table
-						debugInfo.put(i, new String[] {
-								String.valueOf(itemId),
-								itemName,
-								String.valueOf(quantity)
-						});
-
-					} catch (Exception e) {
-						errorCount++;
-						// Continue processing other items
-					}
-				}
+			Map<BoneType, Integer> boneResources = result.getBones().asMap();
+			int currentXP = getCurrentXPInput();
+			boolean useSunfireWine = isSunfireWineSelected();
 
-				// Debug inventory table removed - no longer needed
+			if (boneResources.isEmpty()) {
+				resourceModePanel.updateDebugStatus("No bones found in the counted containers");
 
-				if (boneResources.isEmpty()) {
-					String message = "Found " + totalItems + " items, no bones detected";
-					if (errorCount > 0) {
-						message += " (" + errorCount + " items had errors)";
-					}
-					resourceModePanel.updateDebugStatus(message);
+				// Update with empty bone resources to show 0 values with icons
+				resourceModePanel.updateResourceBreakdown(boneResources);
 
-					// Update with empty bone resources to show 0 values with icons
-					resourceModePanel.updateResourceBreakdown(boneResources);
+				// Update achievable level with 0 shards to show proper 0 values and icons (use
+				// debug override if available)
+				int effectiveShards = resourceModePanel.getEffectiveTotalShards(0);
+				resourceModePanel.updateAchievableLevel(effectiveShards, currentXP, useSunfireWine);
+				return;
+			}
 
-					// Update achievable level with 0 shards to show proper 0 values and icons (use
-					// debug override if available)
-					int currentXP = getCurrentXPInput();
-					boolean useSunfireWine = isSunfireWineSelected();
-					int effectiveShards = resourceModePanel.getEffectiveTotalShards(0);
-					resourceModePanel.updateAchievableLevel(effectiveShards, currentXP, useSunfireWine);
-				} else {
-					try {
-						// Update bone breakdown with error handling
-						resourceModePanel.updateResourceBreakdown(boneResources);
-
-						// Calculate achievable level with bounds checking
-						int totalShards = 0;
-						for (Map.Entry<BoneType, Integer> entry : boneResources.entrySet()) {
-							int shardValue = entry.getKey().getShardValue() * entry.getValue();
-							// Prevent integer overflow
-							if (totalShards > Integer.MAX_VALUE - shardValue) {
-								resourceModePanel.updateDebugError("Too many shards - calculation overflow");
-								return;
-							}
-							totalShards += shardValue;
-						}
-
-						int currentXP = getCurrentXPInput();
-						boolean useSunfireWine = isSunfireWineSelected();
-						int effectiveShards = resourceModePanel.getEffectiveTotalShards(totalShards);
-						resourceModePanel.updateAchievableLevel(effectiveShards, currentXP, useSunfireWine);
-
-						String message = "Resource display updated";
-						if (errorCount > 0) {
-							message += " (" + errorCount + " items had errors)";
-						}
-						resourceModePanel.updateDebugSuccess(message);
-
-					} catch (Exception e) {
-						resourceModePanel.updateDebugError("Error calculating results: " + e.getMessage());
-					}
-				}
+			// Update bone breakdown with error handling
+			resourceModePanel.updateResourceBreakdown(boneResources);
 
-			} catch (Exception ex) {
-				// Requirement 10.5: Log errors without crashing RuneLite
-				log.error("Prayer Calculator: Resource scan failed", ex);
-				resourceModePanel.updateDebugError("Scan failed: " + ex.getMessage());
+			if (result.isOverflow()) {
+				resourceModePanel.updateDebugError("Too many shards - calculation overflow");
+				return;
 			}
-		});
-	}
 
-	// Handle wine type changes to recalculate levels
-	private void onWineTypeChanged() {
-		// Update Goal Mode calculations - call directly to ensure it runs regardless of
-		// tab selection
-		try {
-			goalModePanel.updateBoneShardsRequired();
-		} catch (Exception e) {
-			handleCalculationError("Error updating calculations on wine type change", e);
-		}
+			int effectiveShards = resourceModePanel.getEffectiveTotalShards(result.getTotalShards());
+			resourceModePanel.updateAchievableLevel(effectiveShards, currentXP, useSunfireWine);
 
-		// Update Resource Mode calculations if we have scanned data (regardless of tab
-		// selection)
-		try {
-			// Recalculate using existing data with new wine type (no inventory rescan
-			// needed)
-			resourceModePanel.recalculateWithCurrentSettings();
+			resourceModePanel.updateDebugSuccess("Resource display updated");
 		} catch (Exception e) {
-			handleCalculationError("Error updating Resource Mode calculations on wine type change", e);
+			resourceModePanel.updateDebugError("Error calculating results: " + e.getMessage());
 		}
 	}
 
+	// Handle wine type changes to recalculate levels
+	private void onWineTypeChanged() {
+		// Update both modes regardless of tab selection
+		recalculationScheduler.request(RecalculationScheduler.GOAL_MODE | RecalculationScheduler.RESOURCE_MODE);
+	}
+
 	// Handle zealot robes checkbox changes to update calculations
 	private void onZealotRobesChanged() {
-		// Update Goal Mode calculations - call directly to ensure it runs regardless of
-		// tab selection
-		try {
-			goalModePanel.updateBoneShardsRequired();
-		} catch (Exception e) {
-			handleCalculationError("Error updating calculations on zealot robes change", e);
-		}
-
-		// Update Resource Mode calculations if we have scanned data (regardless of tab
-		// selection)
-		try {
-			// Recalculate using existing data with new zealot robes setting (no inventory
-			// rescan needed)
-			resourceModePanel.recalculateWithCurrentSettings();
-		} catch (Exception e) {
-			handleCalculationError("Error updating Resource Mode calculations on zealot robes change", e);
-		}
+		// Update both modes regardless of tab selection
+		recalculationScheduler.request(RecalculationScheduler.GOAL_MODE | RecalculationScheduler.RESOURCE_MODE);
 
 		// Update zealot robes warning display for both modes
 		goalModePanel.updateZealotRobesWarningDisplay();
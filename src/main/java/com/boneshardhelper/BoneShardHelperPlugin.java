@@ -1,26 +1,22 @@
 package com.boneshardhelper;
 
 import java.awt.image.BufferedImage;
-import java.util.HashMap;
 import java.util.Map;
 import javax.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Provides;
 import lombok.Getter;
 import net.runelite.api.Client;
-import net.runelite.api.Tile;
 import net.runelite.api.TileObject;
-import net.runelite.api.events.DecorativeObjectDespawned;
-import net.runelite.api.events.DecorativeObjectSpawned;
-import net.runelite.api.events.GameObjectDespawned;
-import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameStateChanged;
-import net.runelite.api.events.GroundObjectDespawned;
-import net.runelite.api.events.GroundObjectSpawned;
-import net.runelite.api.events.WallObjectDespawned;
-import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.RuneScapeProfileChanged;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.ClientToolbar;
@@ -32,12 +28,25 @@ import net.runelite.client.util.ImageUtil;
 		"prayer", "varlamore", "calculator", "planning", "bone", "xp", "training", "wine", "shard", "blessed",
 		"skilling","teomat","ralos" })
 public class BoneShardHelperPlugin extends Plugin {
+	// Map regions covering Ralos' Rise (the 3x3 block of regions around the temple)
+	private static final int[] RALOS_RISE_REGIONS = {
+			5424, 5425, 5426,
+			5680, 5681, 5682,
+			5936, 5937, 5938
+	};
+
 	@Inject
 	private Client client;
 
+	@Inject
+	private ClientThread clientThread;
+
 	@Inject
 	private ClientToolbar clientToolbar;
 
+	@Inject
+	private EventBus eventBus;
+
 	@Inject
 	private Provider<BoneShardHelperPanel> uiPanel;
 
@@ -47,11 +56,33 @@ public class BoneShardHelperPlugin extends Plugin {
 	@Inject
 	private PrayerObjectOverlay prayerObjectOverlay;
 
-	@Getter
-	private final Map<TileObject, PrayerObject> prayerObjects = new HashMap<>();
+	@Inject
+	private BoneResourceScanner boneResourceScanner;
+
+	@Inject
+	private BoneShardHelperConfig config;
+
+	@Inject
+	private BoneContainerTracker boneContainerTracker;
+
+	@Inject
+	private BankBoneSnapshot bankBoneSnapshot;
+
+	@Inject
+	private XpRateTracker xpRateTracker;
+
+	@Inject
+	private PrayerObjectTracker prayerObjectTracker;
+
+	@Inject
+	private HiscoreService hiscoreService;
 
 	private NavigationButton uiNavigationButton;
 
+	// True while the player is in Ralos' Rise and object events/overlay are active
+	@Getter
+	private boolean inRalosRise = false;
+
 	@Provides
 	BoneShardHelperConfig getConfig(ConfigManager configManager) {
 		return configManager.getConfig(BoneShardHelperConfig.class);
@@ -72,91 +103,144 @@ public class BoneShardHelperPlugin extends Plugin {
 
 		// Set plugin reference in overlay to avoid circular dependency
 		prayerObjectOverlay.setPlugin(this);
-		overlayManager.add(prayerObjectOverlay);
+		prayerObjectTracker.setChangeListener(prayerObjectOverlay::onPrayerObjectsChanged);
+
+		// The overlay and object tracking are only enabled once the player is in Ralos' Rise
+		clientThread.invokeLater(this::updateRegionActivity);
+
+		// Map noted and placeholder bone IDs from the item definitions, then recount anything already seen
+		boneResourceScanner.resolveItemVariants(this::resyncContainers);
+
+		// Seed the container tracker in case the plugin was enabled while already logged in
+		clientThread.invokeLater(() -> {
+			boneContainerTracker.applyConfig(config);
+			boneContainerTracker.resync(client::getItemContainer);
+		});
+
+		// Restore the saved bank snapshot for the current profile, if any
+		clientThread.invokeLater(bankBoneSnapshot::load);
 	}
 
 	@Override
 	protected void shutDown() throws Exception {
 		clientToolbar.removeNavigation(uiNavigationButton);
-		overlayManager.remove(prayerObjectOverlay);
-		prayerObjects.clear();
+		setRegionActive(false);
+		boneContainerTracker.reset();
+		bankBoneSnapshot.reset();
+		xpRateTracker.reset();
+		hiscoreService.clearCache();
+		hiscoreService.shutdown();
 	}
 
 	@Subscribe
 	public void onConfigChanged(net.runelite.client.events.ConfigChanged event) {
 		if ("boneshardhelper".equals(event.getGroup())) {
+			// Overlay colors and toggles are cached until the config changes
+			prayerObjectOverlay.onConfigChanged();
+
 			if ("debugMode".equals(event.getKey())) {
 				boolean debugMode = Boolean.parseBoolean(event.getNewValue());
 				uiPanel.get().updateDebugMode(debugMode);
+			} else if ("includeBankedBones".equals(event.getKey())) {
+				uiPanel.get().updateIncludeBankedBones(Boolean.parseBoolean(event.getNewValue()));
+			} else {
+				// Counted containers are added to or removed from the running total, without a rescan
+				clientThread.invokeLater(() -> boneContainerTracker.applyConfig(config));
 			}
 		}
 	}
 
+	@Subscribe
+	public void onRuneScapeProfileChanged(RuneScapeProfileChanged event) {
+		// Each account has its own saved bank snapshot
+		clientThread.invokeLater(bankBoneSnapshot::load);
+	}
+
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged event) {
 		switch (event.getGameState()) {
-			case HOPPING:
 			case LOGIN_SCREEN:
+				// A hop keeps the same account, so the looting bag and group storage last seen stay valid; only
+				// a logout forgets them. Carried containers are re-sent on login and applied as deltas either way.
+				boneContainerTracker.reset();
+				// fall through
+			case HOPPING:
+				bankBoneSnapshot.reset();
+				xpRateTracker.reset();
+				setRegionActive(false);
+				break;
 			case LOADING:
-				prayerObjects.clear();
+				prayerObjectTracker.clear();
+				break;
+			case LOGGED_IN:
+				// Fired after every scene load, so this catches entering and leaving the area
+				updateRegionActivity();
 				break;
 		}
 	}
 
 	@Subscribe
-	public void onGameObjectSpawned(GameObjectSpawned event) {
-		onTileObject(event.getTile(), null, event.getGameObject());
+	public void onGameTick(GameTick event) {
+		if (inRalosRise) {
+			prayerObjectOverlay.onGameTick();
+		}
 	}
 
 	@Subscribe
-	public void onGameObjectDespawned(GameObjectDespawned event) {
-		onTileObject(event.getTile(), event.getGameObject(), null);
+	public void onStatChanged(StatChanged event) {
+		xpRateTracker.onStatChanged(event);
 	}
 
 	@Subscribe
-	public void onGroundObjectSpawned(GroundObjectSpawned event) {
-		onTileObject(event.getTile(), null, event.getGroundObject());
+	public void onItemContainerChanged(ItemContainerChanged event) {
+		boneContainerTracker.onItemContainerChanged(event);
+		bankBoneSnapshot.onItemContainerChanged(event);
 	}
 
-	@Subscribe
-	public void onGroundObjectDespawned(GroundObjectDespawned event) {
-		onTileObject(event.getTile(), event.getGroundObject(), null);
+	private void resyncContainers() {
+		// Containers counted before the item definitions were read may have missed noted or placeholder IDs
+		boneContainerTracker.resync(client::getItemContainer);
+		bankBoneSnapshot.resync(client.getItemContainer(BankBoneSnapshot.BANK_CONTAINER_ID));
 	}
 
-	@Subscribe
-	public void onWallObjectSpawned(WallObjectSpawned event) {
-		onTileObject(event.getTile(), null, event.getWallObject());
+	public Map<TileObject, PrayerObject> getPrayerObjects() {
+		return prayerObjectTracker.getPrayerObjects();
 	}
 
-	@Subscribe
-	public void onWallObjectDespawned(WallObjectDespawned event) {
-		onTileObject(event.getTile(), event.getWallObject(), null);
+	private void updateRegionActivity() {
+		// While active, scene loads inside the area are kept up to date by the tracker's spawn events
+		setRegionActive(isInRalosRise(client.getMapRegions()));
 	}
 
-	@Subscribe
-	public void onDecorativeObjectSpawned(DecorativeObjectSpawned event) {
-		onTileObject(event.getTile(), null, event.getDecorativeObject());
-	}
+	private void setRegionActive(boolean active) {
+		if (active == inRalosRise) {
+			return;
+		}
 
-	@Subscribe
-	public void onDecorativeObjectDespawned(DecorativeObjectDespawned event) {
-		onTileObject(event.getTile(), event.getDecorativeObject(), null);
+		inRalosRise = active;
+		if (active) {
+			eventBus.register(prayerObjectTracker);
+			overlayManager.add(prayerObjectOverlay);
+			prayerObjectTracker.rebuildFromScene(client.getScene());
+		} else {
+			eventBus.unregister(prayerObjectTracker);
+			overlayManager.remove(prayerObjectOverlay);
+			prayerObjectTracker.clear();
+		}
 	}
 
-	private void onTileObject(Tile tile, TileObject oldObject, TileObject newObject) {
-		// Remove old object if it exists
-		prayerObjects.remove(oldObject);
-
-		if (newObject == null) {
-			return;
+	private static boolean isInRalosRise(int[] mapRegions) {
+		if (mapRegions == null) {
+			return false;
 		}
 
-		// Check if this is a prayer object we should track
-		if (PrayerObject.PRAYER_OBJECT_IDS.contains(newObject.getId())) {
-			PrayerObject prayerObject = PrayerObject.fromTileObject(tile, newObject);
-			if (prayerObject != null) {
-				prayerObjects.put(newObject, prayerObject);
+		for (int region : mapRegions) {
+			for (int ralosRegion : RALOS_RISE_REGIONS) {
+				if (region == ralosRegion) {
+					return true;
+				}
 			}
 		}
+		return false;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.boneshardhelper;
+
+// Shards, wines and coverage for every milestone from the next level up to 126, plus 200M XP. The XP
+// table is already cumulative (a prefix sum of per-level XP), so each milestone is one subtraction from
+// the current XP and the whole ladder is a single pass over the table, using the same rounding as
+// PrayerCalculationEngine.calculateForTarget.
+public final class GoalLadder {
+
+    private final int currentXP;
+    private final int heldShards;
+    private final int[] targetLevels;
+    private final int[] targetXPs;
+    private final int[] requiredShards;
+    private final int[] winesNeeded;
+
+    private GoalLadder(int currentXP, int heldShards, int[] targetLevels, int[] targetXPs, int[] requiredShards,
+            int[] winesNeeded) {
+        this.currentXP = currentXP;
+        this.heldShards = heldShards;
+        this.targetLevels = targetLevels;
+        this.targetXPs = targetXPs;
+        this.requiredShards = requiredShards;
+        this.winesNeeded = winesNeeded;
+    }
+
+    public static GoalLadder build(int currentXP, boolean useSunfireWine, boolean useZealotRobes, int heldShards) {
+        if (currentXP < 0) {
+            throw new IllegalArgumentException("Current XP cannot be negative");
+        }
+        if (heldShards < 0) {
+            throw new IllegalArgumentException("Held shards cannot be negative");
+        }
+
+        double xpPerShard = PrayerDataSnapshot.xpPerShard(useSunfireWine, useZealotRobes);
+        int[] xpTable = PrayerConstants.PRAYER_XP_TABLE;
+
+        // First milestone still above the current XP
+        int first = Math.min(PrayerConstants.getLevelForXP(currentXP), xpTable.length);
+        while (first < xpTable.length && xpTable[first] <= currentXP) {
+            first++;
+        }
+
+        int rows = xpTable.length - first;
+        int[] targetLevels = new int[rows];
+        int[] targetXPs = new int[rows];
+        int[] requiredShards = new int[rows];
+        int[] winesNeeded = new int[rows];
+
+        for (int row = 0; row < rows; row++) {
+            int index = first + row;
+            // Index 126 is the 200M XP cap rather than a level
+            targetLevels[row] = index < PrayerConstants.MAX_PRAYER_LEVEL ? index + 1 : 0;
+            targetXPs[row] = xpTable[index];
+
+            int shards = (int) Math.ceil((double) (xpTable[index] - currentXP) / xpPerShard);
+            requiredShards[row] = shards;
+            winesNeeded[row] = (shards + PrayerConstants.SHARDS_PER_WINE - 1) / PrayerConstants.SHARDS_PER_WINE;
+        }
+
+        return new GoalLadder(currentXP, heldShards, targetLevels, targetXPs, requiredShards, winesNeeded);
+    }
+
+    public int getCurrentXP() {
+        return currentXP;
+    }
+
+    public int getHeldShards() {
+        return heldShards;
+    }
+
+    public int getRowCount() {
+        return targetLevels.length;
+    }
+
+    public int getTargetLevel(int row) {
+        // 0 for the 200M XP milestone
+        return targetLevels[row];
+    }
+
+    public int getTargetXP(int row) {
+        return targetXPs[row];
+    }
+
+    public int getRequiredShards(int row) {
+        return requiredShards[row];
+    }
+
+    public int getWinesNeeded(int row) {
+        return winesNeeded[row];
+    }
+
+    public int getShardShortage(int row) {
+        return Math.max(0, requiredShards[row] - heldShards);
+    }
+
+    public double getCoverage(int row) {
+        // Fraction of the milestone covered by held shards, capped at 1
+        return requiredShards[row] == 0 ? 1.0 : Math.min(1.0, (double) heldShards / requiredShards[row]);
+    }
+}
@@ -6,11 +6,8 @@ import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.GridLayout;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Pattern;
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -19,19 +16,22 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
+import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableModel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.game.ItemManager;
-import net.runelite.client.hiscore.HiscoreClient;
 import net.runelite.client.hiscore.HiscoreSkill;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.FontManager;
 import net.runelite.client.ui.PluginPanel;
 import net.runelite.client.ui.components.FlatTextField;
 import net.runelite.client.ui.components.IconTextField;
+import net.runelite.client.util.QuantityFormatter;
 
 @Getter
 @Slf4j
@@ -49,6 +49,13 @@ class GoalModePanel extends JPanel {
 	private FoldingSection resourcesRequiredSection;
 	private JLabel boneShardsLabel;
 	private JLabel wineLabel;
+	private JLabel tripsLabel;
+	private JLabel processingTimeLabel;
+	private JLabel prayerRestoresLabel;
+	private JLabel timeToGoalLabel;
+
+	// Live XP rates for the time-to-goal estimate
+	private XpRateTracker xpRateTracker;
 	private final JLabel warningLabel;
 
 	// Item manager for icons
@@ -60,27 +67,68 @@ class GoalModePanel extends JPanel {
 	private JLabel resourceStatusLabel;
 	private JTable recommendationsTable;
 	private DefaultTableModel recommendationsTableModel;
+	private JLabel cheapestMixLabel;
+
+	// Cheapest bones to buy for the current shortfall, priced from the Grand Exchange
+	private BonePriceCache priceCache;
+	private final BonePurchaseOptimizer purchaseOptimizer = new BonePurchaseOptimizer();
+	private int lastShortfallShards = 0;
+
+	// Kept as fields so repeated refreshIfStale calls pass the same instance and are queued only once
+	private final Runnable goalLadderRefresh = this::updateGoalLadder;
+	private final Runnable playerComparisonRefresh = this::updatePlayerComparison;
+	private final Runnable cheapestMixRefresh = this::updateCheapestMix;
+
+	// Goal ladder: requirements for every level above the current one
+	private FoldingSection goalLadderSection;
+	private DefaultTableModel ladderTableModel;
+
+	// Player comparison: the same goal for a pasted list of players, filled in as lookups finish
+	private FoldingSection playerComparisonSection;
+	private JTextArea comparisonNamesArea;
+	private JLabel comparisonStatusLabel;
+	private DefaultTableModel comparisonTableModel;
+	private HiscoreBatchComparator batchComparator;
+
+	// Inventory shard value from the latest scan or tracker update
+	private int heldInventoryShards = 0;
 
-	// Resource scanner reference (injected later)
-	private BoneResourceScanner resourceScanner;
+	// Inventory scan pipeline (injected later)
+	private InventoryScanPipeline scanPipeline;
+
+	// Banked bones counted towards the goal (empty unless enabled); read from the client thread too
+	private volatile BoneBreakdown bankedBones = BoneBreakdown.EMPTY;
+
+	// Versions planning scans so a slower, older scan can't overwrite newer results
+	private RecalculationScheduler recalculationScheduler;
 
 	// Calculation engine for centralized calculation logic
 	private final PrayerCalculationEngine calculationEngine;
 
-	// HiscoreClient for player lookups
-	private HiscoreClient hiscoreClient;
+	// Splits the goal into trips to the altar
+	private final TripPlanner tripPlanner = new TripPlanner();
+	private final ProcessingTimeEstimator processingTimeEstimator = new ProcessingTimeEstimator();
+
+	// Restores needed when staying at the altar instead of using the Shrine of Ralos
+	private final PrayerDrainCalculator potionDrainCalculator =
+			new PrayerDrainCalculator(PrayerDrainCalculator.RestoreItem.PRAYER_POTION);
+	private final PrayerDrainCalculator mothDrainCalculator =
+			new PrayerDrainCalculator(PrayerDrainCalculator.RestoreItem.MOONLIGHT_MOTH);
+
+	// Cached, deduplicated hiscore lookups
+	private HiscoreService hiscoreService;
 
 	// Debug panel components (only visible in debug mode)
 	private FoldingSection debugSection;
 	private IconTextField hiscoreLookupField;
 	private JLabel debugStatusLabel;
+	private JLabel cacheStatsLabel;
 
-	GoalModePanel() {
+	GoalModePanel(PrayerCalculationEngine calculationEngine) {
 		setLayout(new BorderLayout());
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
-		// Initialize calculation engine
-		this.calculationEngine = new PrayerCalculationEngine();
+		this.calculationEngine = calculationEngine;
 
 		// Create input panel with BorderLayout to stack components
 		JPanel inputPanel = new JPanel(new BorderLayout());
@@ -129,6 +177,12 @@ class GoalModePanel extends JPanel {
 		// Create Resource Planning section
 		resourcePlanningSection = createResourcePlanningSection();
 
+		// Create Goal Ladder section
+		goalLadderSection = createGoalLadderSection();
+
+		// Create Player Comparison section
+		playerComparisonSection = createPlayerComparisonSection();
+
 		// Create debug section (initially hidden)
 		debugSection = createDebugSection();
 
@@ -141,6 +195,11 @@ class GoalModePanel extends JPanel {
 		JPanel centerPanel = new JPanel(new BorderLayout());
 		centerPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
 		centerPanel.add(resourcePlanningSection, BorderLayout.NORTH);
+		JPanel tablesPanel = new JPanel(new BorderLayout());
+		tablesPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+		tablesPanel.add(goalLadderSection, BorderLayout.NORTH);
+		tablesPanel.add(playerComparisonSection, BorderLayout.CENTER);
+		centerPanel.add(tablesPanel, BorderLayout.CENTER);
 		centerPanel.add(debugSection, BorderLayout.SOUTH);
 
 		bottomPanel.add(centerPanel, BorderLayout.CENTER);
@@ -151,7 +210,7 @@ class GoalModePanel extends JPanel {
 	}
 
 	public void triggerResourcePlanningRecalculation() {
-		if (resourcePlanningSection.isOpen() && resourceScanner != null) {
+		if (resourcePlanningSection.isOpen() && scanPipeline != null) {
 			performInventoryScanInternal();
 		}
 	}
@@ -243,6 +302,10 @@ class GoalModePanel extends JPanel {
 	}
 
 	public void updateBoneShardsRequired() {
+		// The ladder only depends on current XP and multipliers, so it stays valid without a target
+		updateGoalLadder();
+		updatePlayerComparisonGoal();
+
 		try {
 			// Clear warning first
 			clearValidationError();
@@ -258,6 +321,7 @@ class GoalModePanel extends JPanel {
 
 			// Use centralized calculation engine (single source of truth)
 			CalculationResult result = calculationEngine.calculateForTarget(prayerData);
+			updateCacheStats();
 
 			// Handle special cases
 			if (result.isGoalAlreadyAchieved()) {
@@ -285,6 +349,10 @@ class GoalModePanel extends JPanel {
 
 			boneShardsLabel.setText("Calculation error");
 			wineLabel.setText("Calculation error");
+			tripsLabel.setText("Calculation error");
+			processingTimeLabel.setText("Calculation error");
+			prayerRestoresLabel.setText("Calculation error");
+			timeToGoalLabel.setText("Calculation error");
 			showValidationError("Calculation error: Please check your input values");
 		}
 	}
@@ -294,6 +362,12 @@ class GoalModePanel extends JPanel {
 		boneShardsLabel.setIcon(null);
 		wineLabel.setText("Calculate to see results");
 		wineLabel.setIcon(null);
+		tripsLabel.setText("Calculate to see results");
+		processingTimeLabel.setText("Calculate to see results");
+		prayerRestoresLabel.setText("Calculate to see results");
+		prayerRestoresLabel.setToolTipText(null);
+		timeToGoalLabel.setText("Calculate to see results");
+		timeToGoalLabel.setToolTipText(null);
 		warningLabel.setText("<html>&nbsp;</html>");
 	}
 
@@ -358,6 +432,18 @@ class GoalModePanel extends JPanel {
 
 			wineLabel.setText(wineText);
 
+			// Prayer points at full prayer are the current level, up to 99
+			TripPlan tripPlan = goalAchieved ? TripPlan.EMPTY
+					: tripPlanner.plan(result, PrayerConstants.getMaxPrayerPoints(getCurrentLevelInput()));
+			tripsLabel.setText(goalAchieved ? "0 trips" : formatTrips(tripPlan));
+
+			// Goal Mode doesn't know which bones the shards will come from, so only the altar loop is timed
+			ProcessingTimeEstimate estimate = processingTimeEstimator.estimate(tripPlan, 0);
+			processingTimeLabel.setText("~" + estimate.formatHoursMinutes() + " at the altar");
+
+			updatePrayerRestores(result, goalAchieved);
+			updateTimeToGoal(result);
+
 			// Update zealot robes warning
 			updateZealotRobesWarning();
 
@@ -365,7 +451,78 @@ class GoalModePanel extends JPanel {
 			log.error("Prayer Calculator: Error updating resources display", e);
 			boneShardsLabel.setText("Error loading display");
 			wineLabel.setText("Error loading display");
+			tripsLabel.setText("Error loading display");
+			processingTimeLabel.setText("Error loading display");
+			prayerRestoresLabel.setText("Error loading display");
+			timeToGoalLabel.setText("Error loading display");
+		}
+	}
+
+	private void updateTimeToGoal(CalculationResult result) {
+		if (result.isGoalAlreadyAchieved()) {
+			timeToGoalLabel.setText("Goal reached");
+			timeToGoalLabel.setToolTipText(null);
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		long millis = xpRateTracker != null ? xpRateTracker.getEstimatedMillisToGoal(result, now) : -1;
+		if (millis < 0) {
+			timeToGoalLabel.setText("Gain Prayer XP to see time to goal");
+			timeToGoalLabel.setToolTipText(null);
+			return;
 		}
+
+		long minutes = (millis + 59_999) / 60_000;
+		timeToGoalLabel.setText(String.format("~%dh %02dm to goal", minutes / 60, minutes % 60));
+		timeToGoalLabel.setToolTipText(String.format("<html>XP/hour over the last:<br>"
+						+ "5 minutes: %,d<br>15 minutes: %,d<br>60 minutes: %,d</html>",
+				(long) xpRateTracker.getXpPerHour(0, now),
+				(long) xpRateTracker.getXpPerHour(1, now),
+				(long) xpRateTracker.getXpPerHour(2, now)));
+	}
+
+	private void updatePrayerRestores(CalculationResult result, boolean goalAchieved) {
+		if (goalAchieved) {
+			prayerRestoresLabel.setText("No prayer restores needed");
+			prayerRestoresLabel.setToolTipText(null);
+			return;
+		}
+
+		int prayerLevel = getCurrentLevelInput();
+		PrayerRestorePlan potions = potionDrainCalculator.calculate(result, prayerLevel);
+		PrayerRestorePlan moths = mothDrainCalculator.calculate(result, prayerLevel);
+
+		if (!potions.isFeasible() || !moths.isFeasible()) {
+			prayerRestoresLabel.setText("Prayer level too low to offer wines");
+			prayerRestoresLabel.setToolTipText(null);
+			return;
+		}
+
+		prayerRestoresLabel.setText(String.format("%,d prayer potions or %,d moths", potions.getTotalItems(),
+				moths.getTotalItems()));
+		prayerRestoresLabel.setToolTipText(String.format(
+				"<html>Without restoring at the Shrine of Ralos:<br>"
+						+ "Prayer potions: %,d trips of %d wines, %d doses per trip<br>"
+						+ "Moonlight moths: %,d trips of %d wines, %d moths per trip</html>",
+				potions.getTripCount(), potions.getWinesPerTrip(), potions.getRestoresPerTrip(),
+				moths.getTripCount(), moths.getWinesPerTrip(), moths.getRestoresPerTrip()));
+	}
+
+	private static String formatTrips(TripPlan plan) {
+		if (!plan.isFeasible()) {
+			return "No room for wines";
+		}
+
+		if (plan.getTripCount() <= 1) {
+			return String.format("%d trip", plan.getTripCount());
+		}
+
+		String text = String.format("%,d trips of %d wines", plan.getTripCount(), plan.getWinesPerTrip());
+		if (plan.getLimit() == TripPlan.Limit.PRAYER) {
+			text += " (prayer)";
+		}
+		return text;
 	}
 
 	public void clearValidationError() {
@@ -383,12 +540,32 @@ class GoalModePanel extends JPanel {
 		wineLabel.setForeground(Color.WHITE);
 		wineLabel.setFont(FontManager.getRunescapeSmallFont());
 
+		tripsLabel = new JLabel("Calculate to see results");
+		tripsLabel.setForeground(Color.WHITE);
+		tripsLabel.setFont(FontManager.getRunescapeSmallFont());
+
+		processingTimeLabel = new JLabel("Calculate to see results");
+		processingTimeLabel.setForeground(Color.WHITE);
+		processingTimeLabel.setFont(FontManager.getRunescapeSmallFont());
+
+		prayerRestoresLabel = new JLabel("Calculate to see results");
+		prayerRestoresLabel.setForeground(Color.WHITE);
+		prayerRestoresLabel.setFont(FontManager.getRunescapeSmallFont());
+
+		timeToGoalLabel = new JLabel("Calculate to see results");
+		timeToGoalLabel.setForeground(Color.WHITE);
+		timeToGoalLabel.setFont(FontManager.getRunescapeSmallFont());
+
 		// Create the folding section with the labels as content
 		return new FoldingSection(
 				"Total Resources Needed",
-				"Bone shards and wines required to reach your goal",
+				"Bone shards, wines, altar trips and time required to reach your goal",
 				boneShardsLabel,
-				wineLabel);
+				wineLabel,
+				tripsLabel,
+				processingTimeLabel,
+				prayerRestoresLabel,
+				timeToGoalLabel);
 	}
 
 	public void setItemManager(ItemManager itemManager) {
@@ -434,12 +611,30 @@ class GoalModePanel extends JPanel {
 		}
 	}
 
-	public void setResourceScanner(BoneResourceScanner scanner) {
-		this.resourceScanner = scanner;
+	public void setScanPipeline(InventoryScanPipeline scanPipeline) {
+		this.scanPipeline = scanPipeline;
+	}
+
+	void setRecalculationScheduler(RecalculationScheduler recalculationScheduler) {
+		this.recalculationScheduler = recalculationScheduler;
 	}
 
-	public void setHiscoreClient(HiscoreClient hiscoreClient) {
-		this.hiscoreClient = hiscoreClient;
+	public void setBankedBones(BoneBreakdown bankedBones) {
+		this.bankedBones = bankedBones != null ? bankedBones : BoneBreakdown.EMPTY;
+	}
+
+	public void setHiscoreService(HiscoreService hiscoreService) {
+		this.hiscoreService = hiscoreService;
+		batchComparator = new HiscoreBatchComparator(hiscoreService::lookup, calculationEngine);
+		batchComparator.setListener(() -> javax.swing.SwingUtilities.invokeLater(this::updatePlayerComparison));
+	}
+
+	public void setPriceCache(BonePriceCache priceCache) {
+		this.priceCache = priceCache;
+	}
+
+	public void setXpRateTracker(XpRateTracker xpRateTracker) {
+		this.xpRateTracker = xpRateTracker;
 	}
 
 	private void updateZealotRobesWarning() {
@@ -534,13 +729,269 @@ class GoalModePanel extends JPanel {
 		resourceStatusLabel.setBorder(new EmptyBorder(0, 10, 5, 10)); // Left and right padding
 		bottomPanel.add(resourceStatusLabel, BorderLayout.SOUTH);
 
+		// Cheapest mix of bones to buy, shown under the per-type table
+		cheapestMixLabel = new JLabel();
+		cheapestMixLabel.setForeground(Color.LIGHT_GRAY);
+		cheapestMixLabel.setFont(FontManager.getRunescapeSmallFont());
+		cheapestMixLabel.setBorder(new EmptyBorder(5, 5, 0, 5));
+
+		JPanel tablePanel = new JPanel(new BorderLayout());
+		tablePanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+		tablePanel.add(scrollPane, BorderLayout.CENTER);
+		tablePanel.add(cheapestMixLabel, BorderLayout.SOUTH);
+
 		content.add(descriptionLabel, BorderLayout.NORTH);
-		content.add(scrollPane, BorderLayout.CENTER);
+		content.add(tablePanel, BorderLayout.CENTER);
 		content.add(bottomPanel, BorderLayout.SOUTH);
 
 		return content;
 	}
 
+	private FoldingSection createGoalLadderSection() {
+		String[] columnNames = { "Level", "Shards", "Wines", "Have", "Cost" };
+		ladderTableModel = new DefaultTableModel(columnNames, 0) {
+			@Override
+			public boolean isCellEditable(int row, int column) {
+				return false;
+			}
+		};
+
+		JTable ladderTable = new JTable(ladderTableModel);
+		ladderTable.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		ladderTable.setForeground(Color.WHITE);
+		ladderTable.setFont(FontManager.getRunescapeSmallFont());
+		ladderTable.setGridColor(ColorScheme.LIGHT_GRAY_COLOR);
+		ladderTable.getTableHeader().setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		ladderTable.getTableHeader().setForeground(Color.WHITE);
+		ladderTable.getTableHeader().setFont(FontManager.getRunescapeSmallFont());
+		ladderTable.getTableHeader().setResizingAllowed(false);
+		ladderTable.getTableHeader().setReorderingAllowed(false);
+		ladderTable.setRowHeight(20);
+
+		// Right-align the number columns
+		javax.swing.table.DefaultTableCellRenderer rightRenderer = new javax.swing.table.DefaultTableCellRenderer();
+		rightRenderer.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+		rightRenderer.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		rightRenderer.setForeground(Color.WHITE);
+		for (int column = 1; column < columnNames.length; column++) {
+			ladderTable.getColumnModel().getColumn(column).setCellRenderer(rightRenderer);
+		}
+
+		JScrollPane scrollPane = new JScrollPane(ladderTable);
+		scrollPane.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		scrollPane.setBorder(BorderFactory.createLineBorder(ColorScheme.LIGHT_GRAY_COLOR));
+		scrollPane.setPreferredSize(new Dimension(0, 200));
+
+		FoldingSection section = new FoldingSection(
+				"Goal Ladder",
+				"Shards, wines and cost for every level from your current XP, covered by the bones you hold",
+				scrollPane);
+		section.setOpen(false);
+
+		return section;
+	}
+
+	private void updateGoalLadder() {
+		int currentXP = getCurrentXPInput();
+		if (currentXP < 0 || currentXP > PrayerConstants.PRAYER_XP_TABLE[PrayerConstants.MAX_PRAYER_LEVEL]) {
+			ladderTableModel.setRowCount(0);
+			return;
+		}
+
+		double gpPerShard = 0;
+		if (priceCache != null) {
+			priceCache.refreshIfStale(goalLadderRefresh);
+			gpPerShard = BonePurchaseOptimizer.getCheapestGpPerShard(priceCache.getPrices());
+		}
+
+		GoalLadder ladder = GoalLadder.build(currentXP, isSunfireWineSelected(), isZealotRobesSelected(),
+				heldInventoryShards + bankedBones.getTotalShards());
+
+		ladderTableModel.setRowCount(0);
+		for (int row = 0; row < ladder.getRowCount(); row++) {
+			int level = ladder.getTargetLevel(row);
+			long cost = (long) Math.ceil(ladder.getShardShortage(row) * gpPerShard);
+			ladderTableModel.addRow(new Object[] {
+					level > 0 ? String.valueOf(level) : "200M",
+					QuantityFormatter.quantityToStackSize(ladder.getRequiredShards(row)),
+					QuantityFormatter.quantityToStackSize(ladder.getWinesNeeded(row)),
+					String.format("%d%%", (int) (ladder.getCoverage(row) * 100)),
+					gpPerShard > 0 ? QuantityFormatter.quantityToStackSize(cost) : "-"
+			});
+		}
+	}
+
+	private FoldingSection createPlayerComparisonSection() {
+		JPanel content = new JPanel(new BorderLayout(0, 5));
+		content.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		content.setBorder(new EmptyBorder(5, 5, 5, 5));
+
+		comparisonNamesArea = new JTextArea(4, 0);
+		comparisonNamesArea.setBackground(ColorScheme.DARK_GRAY_COLOR);
+		comparisonNamesArea.setForeground(Color.WHITE);
+		comparisonNamesArea.setCaretColor(Color.WHITE);
+		comparisonNamesArea.setFont(FontManager.getRunescapeSmallFont());
+		comparisonNamesArea.setToolTipText("One player name per line");
+		// Editing the list abandons a comparison that is still running
+		comparisonNamesArea.getDocument().addDocumentListener(new DocumentListener() {
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				cancelPlayerComparison();
+			}
+
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				cancelPlayerComparison();
+			}
+
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+				cancelPlayerComparison();
+			}
+		});
+
+		JScrollPane namesScrollPane = new JScrollPane(comparisonNamesArea);
+		namesScrollPane.setBorder(BorderFactory.createLineBorder(ColorScheme.LIGHT_GRAY_COLOR));
+
+		JButton compareButton = new JButton("Compare");
+		compareButton.setFocusPainted(false);
+		compareButton.addActionListener(e -> startPlayerComparison());
+
+		comparisonStatusLabel = new JLabel("<html>&nbsp;</html>");
+		comparisonStatusLabel.setForeground(Color.LIGHT_GRAY);
+		comparisonStatusLabel.setFont(FontManager.getRunescapeSmallFont());
+
+		JPanel controlsPanel = new JPanel(new BorderLayout(0, 3));
+		controlsPanel.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		controlsPanel.add(namesScrollPane, BorderLayout.NORTH);
+		controlsPanel.add(compareButton, BorderLayout.CENTER);
+		controlsPanel.add(comparisonStatusLabel, BorderLayout.SOUTH);
+
+		String[] columnNames = { "Player", "Level", "Shards", "Wines", "Cost" };
+		comparisonTableModel = new DefaultTableModel(columnNames, 0) {
+			@Override
+			public boolean isCellEditable(int row, int column) {
+				return false;
+			}
+		};
+
+		JTable comparisonTable = new JTable(comparisonTableModel);
+		comparisonTable.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		comparisonTable.setForeground(Color.WHITE);
+		comparisonTable.setFont(FontManager.getRunescapeSmallFont());
+		comparisonTable.setGridColor(ColorScheme.LIGHT_GRAY_COLOR);
+		comparisonTable.getTableHeader().setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		comparisonTable.getTableHeader().setForeground(Color.WHITE);
+		comparisonTable.getTableHeader().setFont(FontManager.getRunescapeSmallFont());
+		comparisonTable.getTableHeader().setResizingAllowed(false);
+		comparisonTable.getTableHeader().setReorderingAllowed(false);
+		comparisonTable.setRowHeight(20);
+		comparisonTable.getColumnModel().getColumn(0).setPreferredWidth(80);
+
+		// Right-align the number columns
+		javax.swing.table.DefaultTableCellRenderer rightRenderer = new javax.swing.table.DefaultTableCellRenderer();
+		rightRenderer.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
+		rightRenderer.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		rightRenderer.setForeground(Color.WHITE);
+		for (int column = 1; column < columnNames.length; column++) {
+			comparisonTable.getColumnModel().getColumn(column).setCellRenderer(rightRenderer);
+		}
+
+		JScrollPane tableScrollPane = new JScrollPane(comparisonTable);
+		tableScrollPane.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+		tableScrollPane.setBorder(BorderFactory.createLineBorder(ColorScheme.LIGHT_GRAY_COLOR));
+		tableScrollPane.setPreferredSize(new Dimension(0, 200));
+
+		content.add(controlsPanel, BorderLayout.NORTH);
+		content.add(tableScrollPane, BorderLayout.CENTER);
+
+		FoldingSection section = new FoldingSection(
+				"Player Comparison",
+				"Shards, wines and cost for a list of players to reach your target XP, looked up on the hiscores",
+				content);
+		section.setOpen(false);
+
+		return section;
+	}
+
+	private void startPlayerComparison() {
+		if (batchComparator == null) {
+			comparisonStatusLabel.setText("<html>Hiscore service not available</html>");
+			return;
+		}
+
+		List<String> names = HiscoreBatchComparator.parseUsernames(comparisonNamesArea.getText());
+		int targetXP = getTargetXPInput();
+		if (names.isEmpty()) {
+			comparisonStatusLabel.setText("<html>Enter at least one player name</html>");
+			return;
+		}
+		if (targetXP <= 0) {
+			comparisonStatusLabel.setText("<html>Set a target level or XP first</html>");
+			return;
+		}
+
+		batchComparator.start(names, targetXP, isSunfireWineSelected(), isZealotRobesSelected());
+	}
+
+	private void cancelPlayerComparison() {
+		if (batchComparator != null) {
+			batchComparator.cancel();
+		}
+	}
+
+	private void updatePlayerComparisonGoal() {
+		// Recompute fetched players against the new goal without looking them up again
+		int targetXP = getTargetXPInput();
+		if (batchComparator != null && targetXP > 0) {
+			batchComparator.setGoal(targetXP, isSunfireWineSelected(), isZealotRobesSelected());
+		}
+	}
+
+	private void updatePlayerComparison() {
+		double gpPerShard = 0;
+		if (priceCache != null) {
+			priceCache.refreshIfStale(playerComparisonRefresh);
+			gpPerShard = BonePurchaseOptimizer.getCheapestGpPerShard(priceCache.getPrices());
+		}
+
+		List<HiscoreBatchComparator.Row> rows = batchComparator.getRows();
+		int loaded = 0;
+		int failed = 0;
+		comparisonTableModel.setRowCount(0);
+		for (HiscoreBatchComparator.Row row : rows) {
+			switch (row.getStatus()) {
+				case LOADED:
+					loaded++;
+					long cost = (long) Math.ceil(row.getRequiredShards() * gpPerShard);
+					comparisonTableModel.addRow(new Object[] {
+							row.getUsername(),
+							String.valueOf(PrayerConstants.getLevelForXP(row.getCurrentXP())),
+							QuantityFormatter.quantityToStackSize(row.getRequiredShards()),
+							QuantityFormatter.quantityToStackSize(row.getWinesNeeded()),
+							gpPerShard > 0 ? QuantityFormatter.quantityToStackSize(cost) : "-"
+					});
+					break;
+				case FAILED:
+					failed++;
+					comparisonTableModel.addRow(new Object[] { row.getUsername(), "-", "Not found", "", "" });
+					break;
+				case CANCELLED:
+					comparisonTableModel.addRow(new Object[] { row.getUsername(), "-", "Cancelled", "", "" });
+					break;
+				default:
+					comparisonTableModel.addRow(new Object[] { row.getUsername(), "...", "", "", "" });
+					break;
+			}
+		}
+
+		String progress = batchComparator.isRunning() ? "Looking up" : "Compared";
+		comparisonStatusLabel.setText(rows.isEmpty() ? "<html>&nbsp;</html>"
+				: String.format("<html>%s %d/%d players to %s XP%s</html>", progress, loaded + failed, rows.size(),
+						QuantityFormatter.quantityToStackSize(batchComparator.getTargetXP()),
+						failed > 0 ? " (" + failed + " not found)" : ""));
+	}
+
 	private void setupTableColumns() {
 		if (recommendationsTable.getColumnCount() >= 2) {
 			recommendationsTable.getColumnModel().getColumn(0).setPreferredWidth(80); // Bone Type
@@ -563,7 +1014,7 @@ class GoalModePanel extends JPanel {
 
 	private void performInventoryScanInternal() {
 		// Performs inventory scan and calculates bone recommendations.
-		if (resourceScanner == null) {
+		if (scanPipeline == null) {
 			resourceStatusLabel.setText("Error: Resource scanner not available");
 			resourceStatusLabel.setForeground(Color.RED);
 			return;
@@ -573,26 +1024,21 @@ class GoalModePanel extends JPanel {
 			resourceStatusLabel.setText("Scanning inventory...");
 			resourceStatusLabel.setForeground(Color.YELLOW);
 
-			// Use ClientThread to safely access game data
-			resourceScanner.getClientThread().invoke(() -> {
-				try {
-					// Scan inventory for bones
-					Map<BoneType, Integer> inventoryBones = resourceScanner.scanInventory();
-
-					// Calculate current total shards from inventory
-					int currentShards = resourceScanner.calculateTotalShards(inventoryBones);
+			int generation = recalculationScheduler.startAsync(RecalculationScheduler.RESOURCE_PLANNING);
 
-					// Calculate required shards for goal
-					int requiredShards = calculateRequiredShards();
+			// Read the goal inputs here on the EDT; only the tracker's counted totals are read on the client thread
+			int requiredShards = calculateRequiredShards();
 
-					// Update UI
-					javax.swing.SwingUtilities.invokeLater(
-							() -> updateResourceRecommendations(inventoryBones, currentShards, requiredShards));
-				} catch (Exception e) {
-					javax.swing.SwingUtilities.invokeLater(() -> {
-						resourceStatusLabel.setText("Error scanning inventory: " + e.getMessage());
-						resourceStatusLabel.setForeground(Color.RED);
-					});
+			// Banked bones are added in updateResourceRecommendations, so only the counted containers are scanned
+			scanPipeline.scanInventory(BoneBreakdown.EMPTY, result -> {
+				// Update UI unless newer input has arrived since this scan started
+				if (recalculationScheduler.isCurrent(RecalculationScheduler.RESOURCE_PLANNING, generation)) {
+					updateResourceRecommendations(result.getBones().asMap(), result.getTotalShards(), requiredShards);
+				}
+			}, e -> {
+				if (recalculationScheduler.isCurrent(RecalculationScheduler.RESOURCE_PLANNING, generation)) {
+					resourceStatusLabel.setText("Error scanning inventory: " + e.getMessage());
+					resourceStatusLabel.setForeground(Color.RED);
 				}
 			});
 		} catch (Exception e) {
@@ -601,6 +1047,17 @@ class GoalModePanel extends JPanel {
 		}
 	}
 
+	public void onInventoryBonesChanged(Map<BoneType, Integer> inventoryBones, int totalShards) {
+		heldInventoryShards = totalShards;
+		updateGoalLadder();
+
+		// Live update from the inventory tracker; only refresh while the planning table is visible
+		if (resourcePlanningSection.isOpen()) {
+			recalculationScheduler.invalidate(RecalculationScheduler.RESOURCE_PLANNING);
+			updateResourceRecommendations(inventoryBones, totalShards, calculateRequiredShards());
+		}
+	}
+
 	private int calculateRequiredShards() {
 		// Calculates the required shards based on current goal settings.
 		try {
@@ -622,17 +1079,27 @@ class GoalModePanel extends JPanel {
 		}
 	}
 
-	private void updateResourceRecommendations(Map<BoneType, Integer> inventoryBones, int currentShards,
+	private void updateResourceRecommendations(Map<BoneType, Integer> inventoryBones, int inventoryShards,
 			int requiredShards) {
 		// Clear existing recommendations
 		recommendationsTableModel.setRowCount(0);
+		lastShortfallShards = 0;
+		cheapestMixLabel.setText("");
+
+		BoneBreakdown bank = bankedBones;
+		int currentShards = inventoryShards + bank.getTotalShards();
+		if (inventoryShards != heldInventoryShards) {
+			heldInventoryShards = inventoryShards;
+			updateGoalLadder();
+		}
+		String source = bank.isEmpty() ? "inventory" : "inventory and bank";
 
 		// First, always display the bone shard value found
 		if (currentShards == 0) {
-			resourceStatusLabel.setText("0 bone shard value found in inventory");
+			resourceStatusLabel.setText("0 bone shard value found in " + source);
 			resourceStatusLabel.setForeground(Color.ORANGE);
 		} else {
-			resourceStatusLabel.setText(String.format("%,d bone shard value found in inventory\n", currentShards));
+			resourceStatusLabel.setText(String.format("%,d bone shard value found in %s\n", currentShards, source));
 			resourceStatusLabel.setForeground(Color.GREEN);
 		}
 
@@ -647,17 +1114,17 @@ class GoalModePanel extends JPanel {
 			int surplus = currentShards - requiredShards;
 			if (surplus > 0) {
 				resourceStatusLabel.setText(String.format(
-						"<html>%,d bone shard value found in inventory<br/>Goal achieved! (%,d surplus shards)</html>",
-						currentShards, surplus));
+						"<html>%,d bone shard value found in %s<br/>Goal achieved! (%,d surplus shards)</html>",
+						currentShards, source, surplus));
 			} else {
 				resourceStatusLabel.setText(String.format(
-						"<html>%,d bone shard value found in inventory<br/>Goal achieved! (exactly %,d needed)</html>",
-						currentShards, requiredShards));
+						"<html>%,d bone shard value found in %s<br/>Goal achieved! (exactly %,d needed)</html>",
+						currentShards, source, requiredShards));
 			}
 			resourceStatusLabel.setForeground(Color.GREEN);
 
 			// Show all bone types with 0 needed since goal is achieved
-			List<BoneRecommendation> zeroRecommendations = generateZeroBoneRecommendations();
+			List<BoneRecommendation> zeroRecommendations = generateBoneRecommendations(0);
 
 			// Populate table with zero recommendations (sorted by efficiency)
 			for (BoneRecommendation rec : zeroRecommendations) {
@@ -678,8 +1145,8 @@ class GoalModePanel extends JPanel {
 		// Update status with HTML for word wrapping - show shard value first, then goal
 		// progress
 		resourceStatusLabel.setText(String.format(
-				"<html>Your inventory contains resources worth %,d blessed bone shards (%.1f%% of goal)<br/><br/>You need to get %,d more shards to reach your XP goals </html>",
-				currentShards, percentage, additionalShards));
+				"<html>Your %s resources worth %,d blessed bone shards (%.1f%% of goal)<br/><br/>You need to get %,d more shards to reach your XP goals </html>",
+				bank.isEmpty() ? "inventory contains" : "inventory and bank contain", currentShards, percentage, additionalShards));
 		resourceStatusLabel.setForeground(Color.ORANGE);
 
 		List<BoneRecommendation> recommendations = generateBoneRecommendations(additionalShards);
@@ -691,126 +1158,59 @@ class GoalModePanel extends JPanel {
 					String.format("%,d", rec.quantityNeeded)
 			});
 		}
-	}
-
-	private List<BoneRecommendation> generateBoneRecommendations(int additionalShards) {
-		List<BoneRecommendation> recommendations = new ArrayList<>();
-		Set<BoneType> processedTypes = new HashSet<>();
-
-		// Generate recommendations for each bone type, using consolidated types
-		for (BoneType boneType : BoneType.values()) {
-			// Skip bone shards themselves
-			if (boneType == BoneType.BLESSED_BONE_SHARDS) {
-				continue;
-			}
-
-			// Get the consolidated bone type (this will map unblessed to blessed versions)
-			BoneType consolidatedType = getConsolidatedBoneType(boneType);
 
-			// Skip if we've already processed this consolidated type
-			if (processedTypes.contains(consolidatedType)) {
-				continue;
-			}
+		lastShortfallShards = additionalShards;
+		updateCheapestMix();
+	}
 
-			processedTypes.add(consolidatedType);
+	private void updateCheapestMix() {
+		if (lastShortfallShards <= 0 || priceCache == null) {
+			cheapestMixLabel.setText("");
+			return;
+		}
 
-			int shardsPerBone = consolidatedType.getShardValue();
-			int quantityNeeded = (int) Math.ceil((double) additionalShards / shardsPerBone);
+		// Re-run once fresh prices arrive; the current (possibly stale) prices are shown meanwhile
+		priceCache.refreshIfStale(cheapestMixRefresh);
 
-			recommendations.add(new BoneRecommendation(consolidatedType, quantityNeeded, shardsPerBone));
+		Map<Integer, Integer> prices = priceCache.getPrices();
+		if (prices.isEmpty()) {
+			cheapestMixLabel.setText(priceCache.isStale() ? "Loading Grand Exchange prices..." : "");
+			return;
 		}
 
-		// Sort by efficiency (highest shards per bone first)
-		recommendations.sort(Comparator.comparingInt((BoneRecommendation r) -> r.efficiency).reversed());
+		BonePurchasePlan plan = purchaseOptimizer.optimize(lastShortfallShards, prices);
+		if (!plan.isAvailable()) {
+			cheapestMixLabel.setText("");
+			return;
+		}
 
-		return recommendations;
+		StringBuilder text = new StringBuilder("<html>Cheapest to buy (");
+		text.append(QuantityFormatter.quantityToStackSize(plan.getTotalCost())).append(" gp):");
+		for (Map.Entry<BoneType, Integer> entry : plan.getQuantities().entrySet()) {
+			text.append("<br/>")
+					.append(String.format("%,d", entry.getValue()))
+					.append(" x ")
+					.append(entry.getKey().getDisplayName());
+		}
+		text.append("</html>");
+		cheapestMixLabel.setText(text.toString());
 	}
 
-	private List<BoneRecommendation> generateZeroBoneRecommendations() {
-		List<BoneRecommendation> recommendations = new ArrayList<>();
-		Set<BoneType> processedTypes = new HashSet<>();
-
-		// Generate recommendations for each bone type, using consolidated types
-		for (BoneType boneType : BoneType.values()) {
-			// Skip bone shards themselves
-			if (boneType == BoneType.BLESSED_BONE_SHARDS) {
-				continue;
-			}
-
-			// Get the consolidated bone type (this will map unblessed to blessed versions)
-			BoneType consolidatedType = getConsolidatedBoneType(boneType);
-
-			// Skip if we've already processed this consolidated type
-			if (processedTypes.contains(consolidatedType)) {
-				continue;
-			}
-
-			processedTypes.add(consolidatedType);
-
-			int shardsPerBone = consolidatedType.getShardValue();
-			// Set quantity needed to 0 since goal is already achieved
-			int quantityNeeded = 0;
+	private List<BoneRecommendation> generateBoneRecommendations(int additionalShards) {
+		// Consolidated types come ranked by shard value (highest first), so no dedupe or sort is needed
+		int count = BoneType.getConsolidatedTypeCount();
+		List<BoneRecommendation> recommendations = new ArrayList<>(count);
+		for (int rank = 0; rank < count; rank++) {
+			BoneType boneType = BoneType.getConsolidatedTypeByRank(rank);
+			int shardsPerBone = boneType.getShardValue();
+			int quantityNeeded = (int) Math.ceil((double) additionalShards / shardsPerBone);
 
-			recommendations.add(new BoneRecommendation(consolidatedType, quantityNeeded, shardsPerBone));
+			recommendations.add(new BoneRecommendation(boneType, quantityNeeded, shardsPerBone));
 		}
 
-		// Sort by efficiency (highest shards per bone first)
-		recommendations.sort(Comparator.comparingInt((BoneRecommendation r) -> r.efficiency).reversed());
-
 		return recommendations;
 	}
 
-	private BoneType getConsolidatedBoneType(BoneType boneType) {
-		// Gets the consolidated bone type for display purposes.
-		switch (boneType) {
-			case BLESSED_BONE_STATUETTE1:
-			case BLESSED_BONE_STATUETTE2:
-			case BLESSED_BONE_STATUETTE3:
-			case BLESSED_BONE_STATUETTE4:
-				return BoneType.BLESSED_BONE_STATUETTE0; // Use the first one as the consolidated entry
-			case BONES:
-				return BoneType.BLESSED_BONES;
-			case BAT_BONES:
-				return BoneType.BLESSED_BAT_BONES;
-			case BIG_BONES:
-				return BoneType.BLESSED_BIG_BONES;
-			case BABYDRAGON_BONES:
-				return BoneType.BLESSED_BABYDRAGON_BONES;
-			case DRAGON_BONES:
-				return BoneType.BLESSED_DRAGON_BONES;
-			case WYVERN_BONES:
-				return BoneType.BLESSED_WYVERN_BONES;
-			case DRAKE_BONES:
-				return BoneType.BLESSED_DRAKE_BONES;
-			case FAYRG_BONES:
-				return BoneType.BLESSED_FAYRG_BONES;
-			case LAVA_DRAGON_BONES:
-				return BoneType.BLESSED_LAVA_DRAGON_BONES;
-			case RAURG_BONES:
-				return BoneType.BLESSED_RAURG_BONES;
-			case DAGANNOTH_BONES:
-				return BoneType.BLESSED_DAGANNOTH_BONES;
-			case OURG_BONES:
-				return BoneType.BLESSED_OURG_BONES;
-			case SUPERIOR_DRAGON_BONES:
-				return BoneType.BLESSED_SUPERIOR_DRAGON_BONES;
-			case BABYWYRM_BONES:
-				return BoneType.BLESSED_BABYWYRM_BONES;
-			case WYRM_BONES:
-				return BoneType.BLESSED_WYRM_BONES;
-			case HYDRA_BONES:
-				return BoneType.BLESSED_HYDRA_BONES;
-			case ZOGRE_BONES:
-				return BoneType.BLESSED_ZOGRE_BONES;
-			case FROST_DRAGON_BONES:
-				return BoneType.BLESSED_FROST_DRAGON_BONES;
-			case STRYKEWYRM_BONES:
-				return BoneType.BLESSED_STRYKEWYRM_BONES;
-			default:
-				return boneType; // Return original type for blessed bones and special types
-		}
-	}
-
 	private static class BoneRecommendation {
 		final BoneType boneType;
 		final int quantityNeeded;
@@ -898,6 +1298,17 @@ class GoalModePanel extends JPanel {
 		debugStatusLabel.setFont(FontManager.getRunescapeSmallFont());
 		debugStatusLabel.setVerticalAlignment(javax.swing.SwingConstants.TOP);
 
+		// Hit and miss counts of the engine's result cache
+		cacheStatsLabel = new JLabel("");
+		cacheStatsLabel.setForeground(Color.LIGHT_GRAY);
+		cacheStatsLabel.setFont(FontManager.getRunescapeSmallFont());
+		cacheStatsLabel.setBorder(new javax.swing.border.EmptyBorder(8, 5, 0, 5));
+
+		JPanel statusPanel = new JPanel(new BorderLayout());
+		statusPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+		statusPanel.add(debugStatusLabel, BorderLayout.NORTH);
+		statusPanel.add(cacheStatsLabel, BorderLayout.SOUTH);
+
 		// Add descriptive text above the search field
 		JLabel descriptionLabel = new JLabel(
 				"<html>Lookup a player's name to populate the Current Level/XP and Target Level/XP boxes with that player's Prayer level and a sensible default goal.</html>");
@@ -910,7 +1321,7 @@ class GoalModePanel extends JPanel {
 		contentPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
 		contentPanel.add(descriptionLabel, BorderLayout.NORTH);
 		contentPanel.add(hiscoreLookupField, BorderLayout.CENTER);
-		contentPanel.add(debugStatusLabel, BorderLayout.SOUTH);
+		contentPanel.add(statusPanel, BorderLayout.SOUTH);
 
 		// Create the folding section
 		FoldingSection section = new FoldingSection(
@@ -925,6 +1336,16 @@ class GoalModePanel extends JPanel {
 		return section;
 	}
 
+	private void updateCacheStats() {
+		if (cacheStatsLabel == null || !debugSection.isVisible()) {
+			return;
+		}
+
+		long hits = calculationEngine.getCacheHits();
+		long misses = calculationEngine.getCacheMisses();
+		cacheStatsLabel.setText(String.format("Result cache: %,d hits, %,d misses", hits, misses));
+	}
+
 	private void performHiscoreLookup() {
 		// Lookup player name using HiscoreClient and populate current/target fields
 		String username = hiscoreLookupField.getText().trim();
@@ -938,10 +1359,10 @@ class GoalModePanel extends JPanel {
 			return;
 		}
 
-		// Check if HiscoreClient is available
-		if (hiscoreClient == null) {
+		// Check if the hiscore service is available
+		if (hiscoreService == null) {
 			hiscoreLookupField.setIcon(IconTextField.Icon.ERROR);
-			debugStatusLabel.setText("<html>Error: HiscoreClient not available</html>");
+			debugStatusLabel.setText("<html>Error: Hiscore service not available</html>");
 			return;
 		}
 
@@ -953,19 +1374,16 @@ class GoalModePanel extends JPanel {
 		// Capture username for use in async callback
 		final String finalUsername = username;
 
-		// Perform async lookup using RuneLite's HiscoreClient
-		java.util.concurrent.CompletableFuture.supplyAsync(() -> {
-			try {
-				return hiscoreClient.lookup(finalUsername);
-			} catch (Exception e) {
-				log.error("Error fetching hiscore data for player: " + finalUsername, e);
-				return null;
-			}
-		}).whenCompleteAsync((hiscoreResult, ex) -> javax.swing.SwingUtilities.invokeLater(() -> {
+		// Cached results complete immediately; misses run on the service's own executor
+		hiscoreService.lookup(finalUsername)
+				.whenComplete((hiscoreResult, ex) -> javax.swing.SwingUtilities.invokeLater(() -> {
 			// Reset field state
 			hiscoreLookupField.setEditable(true);
 
 			if (hiscoreResult == null || ex != null) {
+				if (ex != null) {
+					log.error("Error fetching hiscore data for player: " + finalUsername, ex);
+				}
 				hiscoreLookupField.setIcon(IconTextField.Icon.ERROR);
 				debugStatusLabel.setText("<html>Player not found or hiscores unavailable</html>");
 				return;
@@ -984,7 +1402,7 @@ class GoalModePanel extends JPanel {
 
 				long prayerXP = prayerSkill.getExperience();
 				int prayerXPInt = (int) Math.min(prayerXP, Integer.MAX_VALUE);
-				int prayerLevel = net.runelite.api.Experience.getLevelForXp(prayerXPInt);
+				int prayerLevel = PrayerConstants.getLevelForXP(prayerXPInt);
 
 				// Calculate target: next level for most players, or 200M XP for high-level players
 				int targetLevel;
@@ -993,7 +1411,7 @@ class GoalModePanel extends JPanel {
 				if (prayerLevel >= 99) {
 					// For level 99+ players, default to 200M XP goal
 					targetXP = net.runelite.api.Experience.MAX_SKILL_XP;
-					targetLevel = net.runelite.api.Experience.getLevelForXp(targetXP);
+					targetLevel = PrayerConstants.getLevelForXP(targetXP);
 				} else {
 					// For lower level players, target next level
 					targetLevel = Math.min(prayerLevel + 1, net.runelite.api.Experience.MAX_VIRT_LEVEL);
@@ -1027,6 +1445,7 @@ class GoalModePanel extends JPanel {
 	public void setDebugMode(boolean debugMode, BoneShardHelperPanel parentPanel) {
 		if (debugSection != null) {
 			debugSection.setVisible(debugMode);
+			updateCacheStats();
 			revalidate();
 			repaint();
 		}
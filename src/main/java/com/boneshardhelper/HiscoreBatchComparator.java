@@ -0,0 +1,254 @@
+package com.boneshardhelper;
+
+import net.runelite.api.Experience;
+import net.runelite.client.hiscore.HiscoreResult;
+import net.runelite.client.hiscore.HiscoreSkill;
+import net.runelite.client.hiscore.Skill;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// Looks up a list of players and works out the shards and wines each needs to reach one shared goal.
+// At most MAX_CONCURRENT_LOOKUPS requests are outstanding at a time; each finished lookup fills in its
+// row and starts the next, so partial results show up as they arrive. Starting a new batch or cancelling
+// stops the old one from launching more lookups and discards any of its results that still come back.
+public class HiscoreBatchComparator {
+
+    static final int MAX_CONCURRENT_LOOKUPS = 2;
+
+    static final int MAX_PLAYERS = 50;
+
+    public enum Status {
+        PENDING,
+        LOADED,
+        FAILED,
+        CANCELLED
+    }
+
+    public interface Listener {
+        // Called on whichever thread completed the lookup, after a row changed or the batch finished
+        void onBatchUpdated();
+    }
+
+    private final Function<String, CompletableFuture<HiscoreResult>> lookup;
+    private final PrayerCalculationEngine engine;
+    private volatile Listener listener;
+
+    // Guarded by this. Bumped on every start/cancel so stale completions can be recognised and dropped
+    private int generation = 0;
+    private String[] usernames = new String[0];
+    private Status[] statuses = new Status[0];
+    private int[] currentXPs = new int[0];
+    private int[] requiredShards = new int[0];
+    private int nextToLookup = 0;
+    private int inFlight = 0;
+    private int targetXP = 0;
+    private double xpPerShard = PrayerDataSnapshot.xpPerShard(false, false);
+
+    public HiscoreBatchComparator(Function<String, CompletableFuture<HiscoreResult>> lookup,
+            PrayerCalculationEngine engine) {
+        this.lookup = lookup;
+        this.engine = engine;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    public static List<String> parseUsernames(String text) {
+        // One name per line (commas and semicolons also separate); duplicates by hiscore name are dropped
+        List<String> names = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String name : text.split("[\\n,;]")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty() && seen.add(HiscoreService.normalizeUsername(trimmed))) {
+                names.add(trimmed);
+                if (names.size() == MAX_PLAYERS) {
+                    break;
+                }
+            }
+        }
+        return names;
+    }
+
+    public void start(List<String> names, int targetXP, boolean useSunfireWine, boolean useZealotRobes) {
+        int batchGeneration;
+        synchronized (this) {
+            generation++;
+            batchGeneration = generation;
+
+            int count = Math.min(names.size(), MAX_PLAYERS);
+            usernames = names.subList(0, count).toArray(new String[0]);
+            statuses = new Status[count];
+            Arrays.fill(statuses, Status.PENDING);
+            currentXPs = new int[count];
+            requiredShards = new int[count];
+            nextToLookup = 0;
+            inFlight = 0;
+            this.targetXP = targetXP;
+            this.xpPerShard = PrayerDataSnapshot.xpPerShard(useSunfireWine, useZealotRobes);
+        }
+
+        notifyListener();
+        launchLookups(batchGeneration);
+    }
+
+    public void cancel() {
+        synchronized (this) {
+            if (!isRunning()) {
+                return;
+            }
+
+            generation++;
+            for (int i = 0; i < statuses.length; i++) {
+                if (statuses[i] == Status.PENDING) {
+                    statuses[i] = Status.CANCELLED;
+                }
+            }
+            nextToLookup = usernames.length;
+            inFlight = 0;
+        }
+
+        notifyListener();
+    }
+
+    public void setGoal(int targetXP, boolean useSunfireWine, boolean useZealotRobes) {
+        // Re-runs the engine over the XP already fetched; no lookups are repeated
+        synchronized (this) {
+            double newXpPerShard = PrayerDataSnapshot.xpPerShard(useSunfireWine, useZealotRobes);
+            if (targetXP == this.targetXP && newXpPerShard == xpPerShard) {
+                return;
+            }
+
+            this.targetXP = targetXP;
+            this.xpPerShard = newXpPerShard;
+            engine.calculateRequiredShards(currentXPs, targetXP, xpPerShard, requiredShards);
+        }
+
+        notifyListener();
+    }
+
+    public synchronized boolean isRunning() {
+        return inFlight > 0 || nextToLookup < usernames.length;
+    }
+
+    public synchronized int getTargetXP() {
+        return targetXP;
+    }
+
+    public synchronized List<Row> getRows() {
+        if (usernames.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Row> rows = new ArrayList<>(usernames.length);
+        for (int i = 0; i < usernames.length; i++) {
+            boolean loaded = statuses[i] == Status.LOADED;
+            int shards = loaded ? requiredShards[i] : 0;
+            rows.add(new Row(usernames[i], statuses[i], loaded ? currentXPs[i] : -1, shards,
+                    loaded ? engine.calculateWinesNeeded(shards) : 0));
+        }
+        return rows;
+    }
+
+    private void launchLookups(int batchGeneration) {
+        while (true) {
+            int index;
+            String username;
+            synchronized (this) {
+                if (batchGeneration != generation || inFlight >= MAX_CONCURRENT_LOOKUPS
+                        || nextToLookup >= usernames.length) {
+                    return;
+                }
+
+                index = nextToLookup++;
+                inFlight++;
+                username = usernames[index];
+            }
+
+            CompletableFuture<HiscoreResult> future;
+            try {
+                future = lookup.apply(username);
+            } catch (RuntimeException e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+
+            // Cached results complete immediately, which runs this callback (and the next launch) inline
+            future.whenComplete((result, error) -> onLookupComplete(batchGeneration, index, result, error));
+        }
+    }
+
+    private void onLookupComplete(int batchGeneration, int index, HiscoreResult result, Throwable error) {
+        synchronized (this) {
+            if (batchGeneration != generation) {
+                return;
+            }
+
+            inFlight--;
+            Skill prayer = error == null && result != null ? result.getSkill(HiscoreSkill.PRAYER) : null;
+            // Unranked skills come back with -1 experience
+            if (prayer == null || prayer.getExperience() < 0) {
+                statuses[index] = Status.FAILED;
+            } else {
+                int xp = (int) Math.min(prayer.getExperience(), Experience.MAX_SKILL_XP);
+                currentXPs[index] = xp;
+                requiredShards[index] = engine.calculateRequiredShards(targetXP - xp, xpPerShard);
+                statuses[index] = Status.LOADED;
+            }
+        }
+
+        notifyListener();
+        launchLookups(batchGeneration);
+    }
+
+    private void notifyListener() {
+        Listener current = listener;
+        if (current != null) {
+            current.onBatchUpdated();
+        }
+    }
+
+    public static final class Row {
+        private final String username;
+        private final Status status;
+        private final int currentXP;
+        private final int requiredShards;
+        private final int winesNeeded;
+
+        private Row(String username, Status status, int currentXP, int requiredShards, int winesNeeded) {
+            this.username = username;
+            this.status = status;
+            this.currentXP = currentXP;
+            this.requiredShards = requiredShards;
+            this.winesNeeded = winesNeeded;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public int getCurrentXP() {
+            // -1 unless the lookup succeeded
+            return currentXP;
+        }
+
+        public int getRequiredShards() {
+            return requiredShards;
+        }
+
+        public int getWinesNeeded() {
+            return winesNeeded;
+        }
+    }
+}
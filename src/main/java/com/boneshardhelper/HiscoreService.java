@@ -0,0 +1,190 @@
+package com.boneshardhelper;
+
+import net.runelite.client.hiscore.HiscoreClient;
+import net.runelite.client.hiscore.HiscoreResult;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Hiscore lookups on a small dedicated executor. Results are cached per normalized username for
+// CACHE_TTL_MILLIS, and concurrent lookups of the same name share one request. Failed lookups are not
+// cached, so the next attempt goes back to the hiscores. The executor is created on the first lookup and
+// again on the first lookup after shutdown(), so the service survives the plugin being restarted.
+@Singleton
+public class HiscoreService {
+
+    static final long CACHE_TTL_MILLIS = 10 * 60 * 1000;
+
+    static final long LOOKUP_TIMEOUT_MILLIS = 10 * 1000;
+
+    // Most recently used names kept in the cache
+    private static final int CACHE_SIZE = 32;
+
+    private static final int MAX_THREADS = 2;
+
+    private static final int MAX_QUEUED_LOOKUPS = 16;
+
+    private final HiscoreClient hiscoreClient;
+    private final Supplier<ExecutorService> executorFactory;
+    private final LongSupplier clock;
+    private final long timeoutMillis;
+
+    // Guarded by this
+    private ExecutorService executor;
+    private final Map<String, CachedResult> cache = new LinkedHashMap<String, CachedResult>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private final Map<String, CompletableFuture<HiscoreResult>> inFlight = new HashMap<>();
+
+    @Inject
+    HiscoreService(HiscoreClient hiscoreClient) {
+        this(hiscoreClient, HiscoreService::createExecutor, System::currentTimeMillis, LOOKUP_TIMEOUT_MILLIS);
+    }
+
+    HiscoreService(HiscoreClient hiscoreClient, ExecutorService executor, LongSupplier clock, long timeoutMillis) {
+        this(hiscoreClient, () -> executor, clock, timeoutMillis);
+    }
+
+    private HiscoreService(HiscoreClient hiscoreClient, Supplier<ExecutorService> executorFactory, LongSupplier clock,
+            long timeoutMillis) {
+        this.hiscoreClient = hiscoreClient;
+        this.executorFactory = executorFactory;
+        this.clock = clock;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    private static ExecutorService createExecutor() {
+        // Bounded queue: a flood of lookups is rejected instead of piling up threads or tasks
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_LOOKUPS), runnable -> {
+                    Thread thread = new Thread(runnable, "boneshardhelper-hiscore");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    static String normalizeUsername(String username) {
+        // Jagex names are case-insensitive and treat spaces, underscores, hyphens and nbsp alike
+        return username.trim()
+                .replace('\u00A0', ' ')
+                .replace('_', ' ')
+                .replace('-', ' ')
+                .replaceAll(" +", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    public CompletableFuture<HiscoreResult> lookup(String username) {
+        if (username == null || username.trim().isEmpty()) {
+            throw new IllegalArgumentException("Username cannot be empty");
+        }
+
+        String key = normalizeUsername(username);
+        CompletableFuture<HiscoreResult> future;
+        ExecutorService lookupExecutor;
+        synchronized (this) {
+            CachedResult cached = cache.get(key);
+            if (cached != null) {
+                if (clock.getAsLong() < cached.expiresAtMillis) {
+                    return CompletableFuture.completedFuture(cached.result);
+                }
+                cache.remove(key);
+            }
+
+            CompletableFuture<HiscoreResult> pending = inFlight.get(key);
+            if (pending != null) {
+                return pending;
+            }
+
+            future = new CompletableFuture<>();
+            inFlight.put(key, future);
+
+            if (executor == null) {
+                executor = executorFactory.get();
+            }
+            lookupExecutor = executor;
+        }
+
+        try {
+            CompletableFuture<HiscoreResult> request = new CompletableFuture<>();
+            Future<?> task = lookupExecutor.submit(() -> {
+                try {
+                    request.complete(hiscoreClient.lookup(key));
+                } catch (Exception e) {
+                    request.completeExceptionally(e);
+                }
+            });
+
+            request.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                    .whenComplete((result, error) -> {
+                        // orTimeout only completes the future, so the blocked lookup has to be interrupted
+                        if (error instanceof TimeoutException) {
+                            task.cancel(true);
+                        }
+                        complete(key, future, result, error);
+                    });
+        } catch (Exception e) {
+            // Rejected by the bounded executor
+            complete(key, future, null, e);
+        }
+
+        return future;
+    }
+
+    public synchronized void clearCache() {
+        cache.clear();
+    }
+
+    public synchronized void shutdown() {
+        // Lookups still in flight fail; the next lookup starts a new executor
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void complete(String key, CompletableFuture<HiscoreResult> future, HiscoreResult result,
+            Throwable error) {
+        synchronized (this) {
+            inFlight.remove(key);
+            if (error == null && result != null) {
+                cache.put(key, new CachedResult(result, clock.getAsLong() + CACHE_TTL_MILLIS));
+            }
+        }
+
+        if (error != null) {
+            future.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+        } else {
+            future.complete(result);
+        }
+    }
+
+    private static final class CachedResult {
+        private final HiscoreResult result;
+        private final long expiresAtMillis;
+
+        private CachedResult(HiscoreResult result, long expiresAtMillis) {
+            this.result = result;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.boneshardhelper;
+
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.client.callback.ClientThread;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.SwingUtilities;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+
+// Runs a scan of the counted containers in three stages: the client thread only copies BoneContainerTracker's
+// running totals, the result is built on the worker executor, and a single immutable result is published to the
+// EDT. Reading the tracker rather than the live containers means a scan counts exactly what the live display
+// shows, including the cached looting bag and group storage, without rescanning any container.
+@Singleton
+public class InventoryScanPipeline {
+
+    private final Client client;
+    private final ClientThread clientThread;
+    private final ScheduledExecutorService executor;
+    private final BoneContainerTracker containerTracker;
+
+    @Inject
+    InventoryScanPipeline(Client client, ClientThread clientThread, ScheduledExecutorService executor,
+            BoneContainerTracker containerTracker) {
+        this.client = client;
+        this.clientThread = clientThread;
+        this.executor = executor;
+        this.containerTracker = containerTracker;
+    }
+
+    public void scanInventory(BoneBreakdown extraBones, Consumer<InventoryScanResult> onResult,
+            Consumer<Exception> onError) {
+        // extraBones (e.g. banked bones) are captured by the caller and added to the result
+        clientThread.invoke(() -> {
+            Map<BoneType, Integer> countedBones;
+            try {
+                // The tracker is emptied on logout, so there is nothing to count until the player is in game
+                GameState gameState = client.getGameState();
+                if (gameState != GameState.LOGGED_IN && gameState != GameState.LOADING) {
+                    SwingUtilities.invokeLater(() -> onResult.accept(InventoryScanResult.UNAVAILABLE));
+                    return;
+                }
+
+                countedBones = containerTracker.getBoneCounts();
+            } catch (Exception e) {
+                SwingUtilities.invokeLater(() -> onError.accept(e));
+                return;
+            }
+
+            executor.execute(() -> {
+                try {
+                    InventoryScanResult result = compute(countedBones, extraBones);
+                    SwingUtilities.invokeLater(() -> onResult.accept(result));
+                } catch (Exception e) {
+                    SwingUtilities.invokeLater(() -> onError.accept(e));
+                }
+            });
+        });
+    }
+
+    static InventoryScanResult compute(Map<BoneType, Integer> countedBones, BoneBreakdown extraBones) {
+        // countedBones is keyed by consolidated type, as reported by BoneContainerTracker
+        int[] counts = new int[BoneType.values().length];
+        for (Map.Entry<BoneType, Integer> entry : countedBones.entrySet()) {
+            counts[entry.getKey().ordinal()] += entry.getValue();
+        }
+
+        if (extraBones != null) {
+            for (BoneType boneType : extraBones.asMap().keySet()) {
+                counts[boneType.ordinal()] += extraBones.getCount(boneType);
+            }
+        }
+
+        long totalShards = 0;
+        for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+            totalShards += (long) BoneResourceScanner.getShardValue(ordinal) * counts[ordinal];
+        }
+
+        boolean overflow = totalShards > Integer.MAX_VALUE;
+        return new InventoryScanResult(true, BoneBreakdown.ofCounts(counts), overflow ? 0 : (int) totalShards,
+                overflow);
+    }
+}
@@ -0,0 +1,36 @@
+package com.boneshardhelper;
+
+// Immutable outcome of one inventory scan, built off the client thread and handed to the EDT.
+public final class InventoryScanResult {
+
+    static final InventoryScanResult UNAVAILABLE = new InventoryScanResult(false, BoneBreakdown.EMPTY, 0, false);
+
+    private final boolean inventoryAvailable;
+    private final BoneBreakdown bones;
+    private final int totalShards;
+    private final boolean overflow;
+
+    InventoryScanResult(boolean inventoryAvailable, BoneBreakdown bones, int totalShards, boolean overflow) {
+        this.inventoryAvailable = inventoryAvailable;
+        this.bones = bones;
+        this.totalShards = totalShards;
+        this.overflow = overflow;
+    }
+
+    public boolean isInventoryAvailable() {
+        return inventoryAvailable;
+    }
+
+    public BoneBreakdown getBones() {
+        return bones;
+    }
+
+    public int getTotalShards() {
+        return totalShards;
+    }
+
+    public boolean isOverflow() {
+        // True when the shard total doesn't fit in an int; getTotalShards() is then meaningless
+        return overflow;
+    }
+}
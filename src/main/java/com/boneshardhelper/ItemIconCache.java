@@ -0,0 +1,83 @@
+package com.boneshardhelper;
+
+import java.awt.Component;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.util.AsyncBufferedImage;
+import net.runelite.client.util.ImageUtil;
+
+// Item icons scaled down to fit a square of the requested size, keyed by (item ID, size).
+// Each icon is fetched and scaled once after its AsyncBufferedImage loads, so table renderers only
+// do a map lookup. Only used from the EDT.
+class ItemIconCache {
+	private final ItemManager itemManager;
+
+	private final Map<Long, ImageIcon> icons = new HashMap<>();
+
+	// Components to repaint once a requested icon finishes loading
+	private final Map<Long, Set<Component>> pending = new HashMap<>();
+
+	ItemIconCache(ItemManager itemManager) {
+		this.itemManager = itemManager;
+	}
+
+	ImageIcon getIcon(int itemId, int maxSize, Component repaintTarget) {
+		// Returns null until the icon is ready; repaintTarget is repainted when it is
+		long key = ((long) itemId << 32) | maxSize;
+		ImageIcon icon = icons.get(key);
+		if (icon != null) {
+			return icon;
+		}
+
+		Set<Component> waiting = pending.get(key);
+		if (waiting != null) {
+			if (repaintTarget != null) {
+				waiting.add(repaintTarget);
+			}
+			return null;
+		}
+
+		waiting = new LinkedHashSet<>();
+		if (repaintTarget != null) {
+			waiting.add(repaintTarget);
+		}
+		pending.put(key, waiting);
+
+		AsyncBufferedImage image = itemManager.getImage(itemId);
+		image.onLoaded(() -> SwingUtilities.invokeLater(() -> onImageLoaded(key, image, maxSize)));
+		return null;
+	}
+
+	private void onImageLoaded(long key, BufferedImage image, int maxSize) {
+		icons.put(key, new ImageIcon(scaleToFit(image, maxSize)));
+
+		Set<Component> waiting = pending.remove(key);
+		if (waiting != null) {
+			for (Component component : waiting) {
+				component.repaint();
+			}
+		}
+	}
+
+	private static BufferedImage scaleToFit(BufferedImage image, int maxSize) {
+		int width = image.getWidth();
+		int height = image.getHeight();
+
+		// Only scale if the image is larger than maxSize
+		if (width <= maxSize && height <= maxSize) {
+			return image;
+		}
+
+		// Keep the aspect ratio
+		double scale = Math.min((double) maxSize / width, (double) maxSize / height);
+		int newWidth = Math.max(1, (int) (width * scale));
+		int newHeight = Math.max(1, (int) (height * scale));
+		return ImageUtil.resizeImage(image, newWidth, newHeight);
+	}
+}
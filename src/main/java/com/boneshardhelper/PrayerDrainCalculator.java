@@ -0,0 +1,162 @@
+package com.boneshardhelper;
+
+// Plans prayer restores for players who stay at the altar and bowl instead of walking back to the
+// Shrine of Ralos. Each trip starts at full prayer (the Prayer level, up to 99 points); blessing and
+// offering every wine drains prayer, and a restore is used whenever the next action can't be paid for.
+// Restore items share the inventory with the wines, so the per-trip loadout is the largest wine count
+// that still fits its restores.
+// The loadout only depends on prayer level and reserved slots and is cached, so a change to the shard
+// count alone is answered without re-simulating the full trips.
+public class PrayerDrainCalculator {
+
+    public enum RestoreItem {
+        PRAYER_POTION("Prayer potion", 4),
+        MOONLIGHT_MOTH("Moonlight moth", 1);
+
+        private final String displayName;
+        private final int usesPerItem;
+
+        RestoreItem(String displayName, int usesPerItem) {
+            this.displayName = displayName;
+            this.usesPerItem = usesPerItem;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public int getUsesPerItem() {
+            // Doses per potion, or 1 for single-use items
+            return usesPerItem;
+        }
+
+        public int getRestoreAmount(int prayerLevel) {
+            if (this == PRAYER_POTION) {
+                // 7 + 25% of the Prayer level per dose
+                return 7 + prayerLevel / 4;
+            }
+            return 22;
+        }
+
+        public int getItemsFor(int uses) {
+            return (uses + usesPerItem - 1) / usesPerItem;
+        }
+    }
+
+    private final RestoreItem restoreItem;
+
+    // Inputs the cached loadout was built for
+    private int loadoutPrayerLevel = -1;
+    private int loadoutNotedBoneTypes = -1;
+
+    // Cached loadout for a full trip
+    private boolean feasible;
+    private int winesPerTrip;
+    private int restoresPerTrip;
+
+    public PrayerDrainCalculator(RestoreItem restoreItem) {
+        if (restoreItem == null) {
+            throw new IllegalArgumentException("Restore item cannot be null");
+        }
+        this.restoreItem = restoreItem;
+    }
+
+    public RestoreItem getRestoreItem() {
+        return restoreItem;
+    }
+
+    public PrayerRestorePlan calculate(CalculationResult result, int prayerLevel) {
+        if (result == null) {
+            throw new IllegalArgumentException("Calculation result cannot be null");
+        }
+
+        int shards = result.getRequiredShards() > 0 ? result.getRequiredShards() : result.getTotalAvailableShards();
+        BoneBreakdown bones = result.getBones();
+        int notedBoneTypes = bones.getTypeCount() - (bones.getCount(BoneType.BLESSED_BONE_SHARDS) > 0 ? 1 : 0);
+        return calculate(shards, notedBoneTypes, prayerLevel);
+    }
+
+    public PrayerRestorePlan calculate(int totalShards, int notedBoneTypes, int prayerLevel) {
+        if (totalShards < 0) {
+            throw new IllegalArgumentException("Total shards cannot be negative");
+        }
+        if (notedBoneTypes < 0) {
+            throw new IllegalArgumentException("Noted bone types cannot be negative");
+        }
+        if (!PrayerConstants.isValidLevel(prayerLevel)) {
+            throw new IllegalArgumentException("Prayer level must be between " + PrayerConstants.MIN_PRAYER_LEVEL
+                    + " and " + PrayerConstants.MAX_PRAYER_LEVEL);
+        }
+
+        if (prayerLevel != loadoutPrayerLevel || notedBoneTypes != loadoutNotedBoneTypes) {
+            updateLoadout(notedBoneTypes, prayerLevel);
+        }
+
+        if (totalShards == 0) {
+            return new PrayerRestorePlan(restoreItem, 0, 0, 0, 0, 0, true);
+        }
+
+        int totalWines = (totalShards + PrayerConstants.SHARDS_PER_WINE - 1) / PrayerConstants.SHARDS_PER_WINE;
+        if (!feasible) {
+            return new PrayerRestorePlan(restoreItem, totalWines, 0, 0, 0, 0, false);
+        }
+
+        // Only the last, partial trip needs simulating; full trips reuse the cached loadout
+        int tripCount = (totalWines + winesPerTrip - 1) / winesPerTrip;
+        int lastTripWines = totalWines - (tripCount - 1) * winesPerTrip;
+        int lastTripRestores = lastTripWines == winesPerTrip ? restoresPerTrip
+                : simulateTrip(lastTripWines, prayerLevel);
+
+        return new PrayerRestorePlan(restoreItem, totalWines, tripCount, winesPerTrip, restoresPerTrip,
+                lastTripRestores, true);
+    }
+
+    private void updateLoadout(int notedBoneTypes, int prayerLevel) {
+        loadoutNotedBoneTypes = notedBoneTypes;
+        loadoutPrayerLevel = prayerLevel;
+        feasible = false;
+        winesPerTrip = 0;
+        restoresPerTrip = 0;
+
+        // Same reserved slots as TripPlanner: shards, plus noted bones and a chisel
+        int reservedSlots = 1 + (notedBoneTypes > 0 ? notedBoneTypes + 1 : 0);
+        int freeSlots = PrayerConstants.INVENTORY_SIZE - reservedSlots;
+
+        // Each single action has to be affordable from a full prayer bar
+        if (PrayerConstants.getMaxPrayerPoints(prayerLevel)
+                < Math.max(PrayerConstants.PRAYER_POINTS_PER_BLESSING, PrayerConstants.PRAYER_POINTS_PER_WINE)) {
+            return;
+        }
+
+        for (int wines = freeSlots; wines > 0; wines--) {
+            int restores = simulateTrip(wines, prayerLevel);
+            if (wines + restoreItem.getItemsFor(restores) <= freeSlots) {
+                feasible = true;
+                winesPerTrip = wines;
+                restoresPerTrip = restores;
+                return;
+            }
+        }
+    }
+
+    private int simulateTrip(int wines, int prayerLevel) {
+        // All wines are blessed at the altar first, then offered one by one at the bowl. Both the bar and
+        // the restore amount follow the real level, which stops at 99 even when the virtual level is higher.
+        int maxPrayerPoints = PrayerConstants.getMaxPrayerPoints(prayerLevel);
+        int restoreAmount = restoreItem.getRestoreAmount(maxPrayerPoints);
+        int prayerPoints = maxPrayerPoints;
+        int restores = 0;
+
+        for (int action = 0; action < wines * 2; action++) {
+            int cost = action < wines ? PrayerConstants.PRAYER_POINTS_PER_BLESSING
+                    : PrayerConstants.PRAYER_POINTS_PER_WINE;
+            while (prayerPoints < cost) {
+                prayerPoints = Math.min(maxPrayerPoints, prayerPoints + restoreAmount);
+                restores++;
+            }
+            prayerPoints -= cost;
+        }
+
+        return restores;
+    }
+}
@@ -1,6 +1,6 @@
 package com.boneshardhelper;
 
-import java.util.Set;
+import java.util.Arrays;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.Value;
@@ -11,12 +11,13 @@ import net.runelite.api.TileObject;
 @AllArgsConstructor
 class PrayerObject
 {
-    public static final Set<Integer> PRAYER_OBJECT_IDS = Set.of(
-        53018, // EXPOSED_ALTAR
-        52405, // SHRINE_OF_RALOS  
-        53016,  // 
-        52799   // EXPOSED_ALTAR
-    );
+    // Sorted for binary search; the index of an ID is stable and can be used to key per-object data
+    private static final int[] PRAYER_OBJECT_IDS = {
+        52405, // SHRINE_OF_RALOS
+        52799, // LIBATION_BOWL
+        53016, // LIBATION_BOWL (second variant)
+        53018  // EXPOSED_ALTAR
+    };
 
     private final Tile tile;
     @Nullable
@@ -32,7 +33,7 @@ class PrayerObject
         }
 
         int objectId = tileObject.getId();
-        if (!PRAYER_OBJECT_IDS.contains(objectId))
+        if (!isPrayerObjectId(objectId))
         {
             return null;
         }
@@ -41,6 +42,23 @@ class PrayerObject
         return new PrayerObject(tile, tileObject, objectId, name);
     }
 
+    public static boolean isPrayerObjectId(int objectId)
+    {
+        // Used on the spawn/despawn hot path, so no boxing
+        return indexOf(objectId) >= 0;
+    }
+
+    public static int getPrayerObjectIdCount()
+    {
+        return PRAYER_OBJECT_IDS.length;
+    }
+
+    public static int indexOf(int objectId)
+    {
+        // Index into the prayer object IDs, or a negative value if objectId isn't one
+        return Arrays.binarySearch(PRAYER_OBJECT_IDS, objectId);
+    }
+
     public static String getObjectName(int objectId)
     {
         switch (objectId)
@@ -60,7 +78,7 @@ class PrayerObject
 
     public boolean shouldHighlight()
     {
-        return tileObject != null && PRAYER_OBJECT_IDS.contains(objectId);
+        return tileObject != null && isPrayerObjectId(objectId);
     }
 
     public java.awt.Color getHighlightColor(BoneShardHelperConfig config)
@@ -4,11 +4,13 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import javax.inject.Inject;
 import net.runelite.api.Client;
+import net.runelite.api.Player;
 import net.runelite.api.Point;
-import net.runelite.api.Tile;
-import net.runelite.api.TileObject;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
@@ -19,10 +21,41 @@ class PrayerObjectOverlay extends Overlay {
     // Overlay for highlighting relevant objects in Ralos' rise (implemented similar to agility plugin)
     private static final int MAX_DISTANCE = 2350;
 
+    // Weight of the newest frame in the render-time average
+    private static final double RENDER_TIME_SMOOTHING = 0.05;
+
     private final Client client;
     private final BoneShardHelperConfig config;
     private BoneShardHelperPlugin plugin;
 
+    // Objects on the player's plane and within range, rebuilt once per game tick
+    private final List<PrayerObject> visibleObjects = new ArrayList<>();
+    private boolean visibleObjectsDirty = true;
+
+    // Colors of visibleObjects, resolved whenever the list is rebuilt
+    private Color[][] visibleColors = new Color[0][];
+
+    // Clickboxes of visibleObjects, reused until the camera, viewport or visible objects change
+    private Shape[] clickboxes = new Shape[0];
+    private int cameraX;
+    private int cameraY;
+    private int cameraZ;
+    private int cameraPitch;
+    private int cameraYaw;
+    private int cameraScale;
+    private int viewportWidth;
+    private int viewportHeight;
+
+    // Config values resolved once per config change; each color array is {outline, hover outline, fill},
+    // indexed by PrayerObject.indexOf
+    private final Color[][] colorsByObjectIndex = new Color[PrayerObject.getPrayerObjectIdCount()][];
+    private boolean configLoaded = false;
+    private boolean highlightEnabled;
+    private boolean debugMode;
+
+    // Exponential moving average of render() time in nanoseconds
+    private double averageRenderNanos = 0;
+
     @Inject
     private PrayerObjectOverlay(Client client, BoneShardHelperConfig config) {
         setPosition(OverlayPosition.DYNAMIC);
@@ -35,50 +68,161 @@ class PrayerObjectOverlay extends Overlay {
         this.plugin = plugin;
     }
 
+    void onGameTick() {
+        // The player moves at most once per tick, so distance culling only needs to run here
+        visibleObjectsDirty = true;
+    }
+
+    void onPrayerObjectsChanged() {
+        // Spawns, despawns and scene loads must not leave stale objects around until the next tick
+        visibleObjectsDirty = true;
+    }
+
+    void onConfigChanged() {
+        configLoaded = false;
+    }
+
     @Override
     public Dimension render(Graphics2D graphics) {
+        long start = System.nanoTime();
+
+        if (!configLoaded) {
+            loadConfig();
+        }
+
         // Only render if object highlighting is enabled and plugin is set
-        if (plugin == null || !config.highlightPrayerObjects()) {
+        if (plugin == null || !highlightEnabled) {
             return null;
         }
 
-        LocalPoint playerLocation = client.getLocalPlayer().getLocalLocation();
-        Point mousePosition = client.getMouseCanvasPosition();
+        if (visibleObjectsDirty) {
+            updateVisibleObjects();
+        }
 
-        // Render each object that should be highlighted
-        plugin.getPrayerObjects().forEach((tileObject, prayerObject) -> {
-            if (prayerObject == null || !prayerObject.shouldHighlight()) {
-                return;
+        if (!visibleObjects.isEmpty()) {
+            if (cameraChanged()) {
+                updateClickboxes();
             }
 
-            Tile tile = prayerObject.getTile();
-            TileObject object = prayerObject.getTileObject();
-
-            // Only highlight objects on the same plane and within distance
-            if (tile.getPlane() == client.getLocalPlayer().getWorldLocation().getPlane()
-                    && object.getLocalLocation().distanceTo(playerLocation) < MAX_DISTANCE) {
-                Shape objectClickbox = object.getClickbox();
-                if (objectClickbox != null) {
-                    // Get the configured color for this prayer object type
-                    Color configColor = prayerObject.getHighlightColor(config);
-
-                    // Darker color on mouse hover to indicate interaction
-                    if (objectClickbox.contains(mousePosition.getX(), mousePosition.getY())) {
-                        graphics.setColor(configColor.darker());
-                    } else {
-                        graphics.setColor(configColor);
-                    }
-
-                    // Draw the outline
-                    graphics.draw(objectClickbox);
-
-                    // Fill with transparent color (alpha / 5 for subtle fill)
-                    graphics.setColor(ColorUtil.colorWithAlpha(configColor, configColor.getAlpha() / 5));
-                    graphics.fill(objectClickbox);
+            Point mousePosition = client.getMouseCanvasPosition();
+            for (int i = 0; i < visibleObjects.size(); i++) {
+                Shape objectClickbox = clickboxes[i];
+                if (objectClickbox == null) {
+                    continue;
+                }
+
+                Color[] colors = visibleColors[i];
+
+                // Darker color on mouse hover to indicate interaction
+                if (objectClickbox.contains(mousePosition.getX(), mousePosition.getY())) {
+                    graphics.setColor(colors[1]);
+                } else {
+                    graphics.setColor(colors[0]);
                 }
+
+                // Draw the outline
+                graphics.draw(objectClickbox);
+
+                // Fill with transparent color
+                graphics.setColor(colors[2]);
+                graphics.fill(objectClickbox);
             }
-        });
+        }
+
+        long elapsed = System.nanoTime() - start;
+        averageRenderNanos += (elapsed - averageRenderNanos) * RENDER_TIME_SMOOTHING;
+
+        if (debugMode) {
+            graphics.setColor(Color.WHITE);
+            graphics.drawString(String.format("Prayer overlay: %.1f us/frame (%d objects)",
+                    averageRenderNanos / 1000.0, visibleObjects.size()),
+                    client.getViewportXOffset() + 5, client.getViewportYOffset() + 15);
+        }
 
         return null;
     }
-}
\ No newline at end of file
+
+    private void loadConfig() {
+        highlightEnabled = config.highlightPrayerObjects();
+        debugMode = config.debugMode();
+        Arrays.fill(colorsByObjectIndex, null);
+        configLoaded = true;
+
+        // Visible objects hold on to their resolved colors, so pick up the new ones
+        visibleObjectsDirty = true;
+    }
+
+    private Color[] getColors(PrayerObject prayerObject) {
+        int index = PrayerObject.indexOf(prayerObject.getObjectId());
+        Color[] colors = colorsByObjectIndex[index];
+        if (colors == null) {
+            // Get the configured color for this prayer object type (alpha / 5 for subtle fill)
+            Color configColor = prayerObject.getHighlightColor(config);
+            colors = new Color[] {
+                    configColor,
+                    configColor.darker(),
+                    ColorUtil.colorWithAlpha(configColor, configColor.getAlpha() / 5)
+            };
+            colorsByObjectIndex[index] = colors;
+        }
+        return colors;
+    }
+
+    private void updateVisibleObjects() {
+        visibleObjects.clear();
+        visibleObjectsDirty = false;
+
+        Player player = client.getLocalPlayer();
+        if (player == null) {
+            clickboxes = new Shape[0];
+            visibleColors = new Color[0][];
+            return;
+        }
+
+        LocalPoint playerLocation = player.getLocalLocation();
+        int plane = player.getWorldLocation().getPlane();
+
+        // Only highlight objects on the same plane and within distance
+        for (PrayerObject prayerObject : plugin.getPrayerObjects().values()) {
+            if (prayerObject != null && prayerObject.shouldHighlight()
+                    && prayerObject.getTile().getPlane() == plane
+                    && prayerObject.getTileObject().getLocalLocation().distanceTo(playerLocation) < MAX_DISTANCE) {
+                visibleObjects.add(prayerObject);
+            }
+        }
+
+        // The clickbox and color caches no longer line up with the list
+        clickboxes = new Shape[visibleObjects.size()];
+        visibleColors = new Color[visibleObjects.size()][];
+        for (int i = 0; i < visibleColors.length; i++) {
+            visibleColors[i] = getColors(visibleObjects.get(i));
+        }
+        updateClickboxes();
+    }
+
+    private boolean cameraChanged() {
+        return cameraX != client.getCameraX()
+                || cameraY != client.getCameraY()
+                || cameraZ != client.getCameraZ()
+                || cameraPitch != client.getCameraPitch()
+                || cameraYaw != client.getCameraYaw()
+                || cameraScale != client.getScale()
+                || viewportWidth != client.getViewportWidth()
+                || viewportHeight != client.getViewportHeight();
+    }
+
+    private void updateClickboxes() {
+        cameraX = client.getCameraX();
+        cameraY = client.getCameraY();
+        cameraZ = client.getCameraZ();
+        cameraPitch = client.getCameraPitch();
+        cameraYaw = client.getCameraYaw();
+        cameraScale = client.getScale();
+        viewportWidth = client.getViewportWidth();
+        viewportHeight = client.getViewportHeight();
+
+        for (int i = 0; i < visibleObjects.size(); i++) {
+            clickboxes[i] = visibleObjects.get(i).getTileObject().getClickbox();
+        }
+    }
+}
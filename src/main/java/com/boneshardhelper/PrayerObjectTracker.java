@@ -0,0 +1,153 @@
+package com.boneshardhelper;
+
+import net.runelite.api.DecorativeObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.GroundObject;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.WallObject;
+import net.runelite.api.events.DecorativeObjectDespawned;
+import net.runelite.api.events.DecorativeObjectSpawned;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GroundObjectDespawned;
+import net.runelite.api.events.GroundObjectSpawned;
+import net.runelite.api.events.WallObjectDespawned;
+import net.runelite.api.events.WallObjectSpawned;
+import net.runelite.client.eventbus.Subscribe;
+
+import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+// Tracks the prayer objects in the loaded scene. Only registered with the EventBus while the player
+// is in Ralos' Rise, so object spawns elsewhere in the world never reach it.
+@Singleton
+public class PrayerObjectTracker {
+
+    private final Map<TileObject, PrayerObject> prayerObjects = new HashMap<>();
+    private final Map<TileObject, PrayerObject> readOnlyPrayerObjects = Collections.unmodifiableMap(prayerObjects);
+
+    // Notified whenever an object is added or removed
+    private Runnable changeListener = () -> { };
+
+    void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    public Map<TileObject, PrayerObject> getPrayerObjects() {
+        return readOnlyPrayerObjects;
+    }
+
+    public void clear() {
+        if (!prayerObjects.isEmpty()) {
+            prayerObjects.clear();
+            changeListener.run();
+        }
+    }
+
+    public void rebuildFromScene(Scene scene) {
+        // Picks up objects that spawned while the tracker wasn't listening
+        prayerObjects.clear();
+
+        Tile[][][] tiles = scene != null ? scene.getTiles() : null;
+        if (tiles != null) {
+            for (Tile[][] plane : tiles) {
+                for (Tile[] column : plane) {
+                    for (Tile tile : column) {
+                        if (tile != null) {
+                            addTile(tile);
+                        }
+                    }
+                }
+            }
+        }
+
+        changeListener.run();
+    }
+
+    @Subscribe
+    public void onGameObjectSpawned(GameObjectSpawned event) {
+        onTileObject(event.getTile(), null, event.getGameObject());
+    }
+
+    @Subscribe
+    public void onGameObjectDespawned(GameObjectDespawned event) {
+        onTileObject(event.getTile(), event.getGameObject(), null);
+    }
+
+    @Subscribe
+    public void onGroundObjectSpawned(GroundObjectSpawned event) {
+        onTileObject(event.getTile(), null, event.getGroundObject());
+    }
+
+    @Subscribe
+    public void onGroundObjectDespawned(GroundObjectDespawned event) {
+        onTileObject(event.getTile(), event.getGroundObject(), null);
+    }
+
+    @Subscribe
+    public void onWallObjectSpawned(WallObjectSpawned event) {
+        onTileObject(event.getTile(), null, event.getWallObject());
+    }
+
+    @Subscribe
+    public void onWallObjectDespawned(WallObjectDespawned event) {
+        onTileObject(event.getTile(), event.getWallObject(), null);
+    }
+
+    @Subscribe
+    public void onDecorativeObjectSpawned(DecorativeObjectSpawned event) {
+        onTileObject(event.getTile(), null, event.getDecorativeObject());
+    }
+
+    @Subscribe
+    public void onDecorativeObjectDespawned(DecorativeObjectDespawned event) {
+        onTileObject(event.getTile(), event.getDecorativeObject(), null);
+    }
+
+    private void onTileObject(Tile tile, TileObject oldObject, TileObject newObject) {
+        // Remove old object if it was one of ours
+        if (oldObject != null && PrayerObject.isPrayerObjectId(oldObject.getId())
+                && prayerObjects.remove(oldObject) != null) {
+            changeListener.run();
+        }
+
+        if (newObject != null && addObject(tile, newObject)) {
+            changeListener.run();
+        }
+    }
+
+    private void addTile(Tile tile) {
+        GameObject[] gameObjects = tile.getGameObjects();
+        if (gameObjects != null) {
+            for (GameObject gameObject : gameObjects) {
+                addObject(tile, gameObject);
+            }
+        }
+
+        GroundObject groundObject = tile.getGroundObject();
+        WallObject wallObject = tile.getWallObject();
+        DecorativeObject decorativeObject = tile.getDecorativeObject();
+        addObject(tile, groundObject);
+        addObject(tile, wallObject);
+        addObject(tile, decorativeObject);
+    }
+
+    private boolean addObject(Tile tile, TileObject object) {
+        // Check if this is a prayer object we should track
+        if (object == null || !PrayerObject.isPrayerObjectId(object.getId())) {
+            return false;
+        }
+
+        PrayerObject prayerObject = PrayerObject.fromTileObject(tile, object);
+        if (prayerObject == null) {
+            return false;
+        }
+
+        prayerObjects.put(object, prayerObject);
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package com.boneshardhelper;
+
+// Immutable result of PrayerDrainCalculator: trips made without returning to the shrine, and the
+// restore items needed to keep prayer above zero on them.
+public final class PrayerRestorePlan {
+
+    private final PrayerDrainCalculator.RestoreItem restoreItem;
+    private final int totalWines;
+    private final int tripCount;
+    private final int winesPerTrip;
+    private final int restoresPerTrip;
+    private final int lastTripRestores;
+    private final boolean feasible;
+
+    PrayerRestorePlan(PrayerDrainCalculator.RestoreItem restoreItem, int totalWines, int tripCount,
+            int winesPerTrip, int restoresPerTrip, int lastTripRestores, boolean feasible) {
+        this.restoreItem = restoreItem;
+        this.totalWines = totalWines;
+        this.tripCount = tripCount;
+        this.winesPerTrip = winesPerTrip;
+        this.restoresPerTrip = restoresPerTrip;
+        this.lastTripRestores = lastTripRestores;
+        this.feasible = feasible;
+    }
+
+    public PrayerDrainCalculator.RestoreItem getRestoreItem() {
+        return restoreItem;
+    }
+
+    public int getTotalWines() {
+        return totalWines;
+    }
+
+    public int getTripCount() {
+        return tripCount;
+    }
+
+    public int getWinesPerTrip() {
+        return winesPerTrip;
+    }
+
+    public int getRestoresPerTrip() {
+        // Doses or moths used on a full trip
+        return restoresPerTrip;
+    }
+
+    public int getRestoresOnTrip(int trip) {
+        if (trip < 0 || trip >= tripCount) {
+            throw new IllegalArgumentException("Trip must be between 0 and " + (tripCount - 1));
+        }
+        return trip == tripCount - 1 ? lastTripRestores : restoresPerTrip;
+    }
+
+    public long getTotalRestores() {
+        if (tripCount == 0) {
+            return 0;
+        }
+        return (long) (tripCount - 1) * restoresPerTrip + lastTripRestores;
+    }
+
+    public long getTotalItems() {
+        // Whole items to bring; each trip starts with fresh items, so doses are rounded up per trip
+        if (tripCount == 0) {
+            return 0;
+        }
+        return (long) (tripCount - 1) * restoreItem.getItemsFor(restoresPerTrip)
+                + restoreItem.getItemsFor(lastTripRestores);
+    }
+
+    public boolean isFeasible() {
+        // False when the restore items needed for even one wine don't fit in the inventory
+        return feasible;
+    }
+
+    @Override
+    public String toString() {
+        return "PrayerRestorePlan{" +
+                "restoreItem=" + restoreItem +
+                ", totalWines=" + totalWines +
+                ", tripCount=" + tripCount +
+                ", winesPerTrip=" + winesPerTrip +
+                ", restoresPerTrip=" + restoresPerTrip +
+                ", lastTripRestores=" + lastTripRestores +
+                ", feasible=" + feasible +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package com.boneshardhelper;
+
+import java.time.Duration;
+
+// Immutable breakdown of the game ticks needed to process a plan.
+public final class ProcessingTimeEstimate {
+
+    public static final long TICK_MILLIS = 600;
+
+    static final ProcessingTimeEstimate EMPTY = new ProcessingTimeEstimate(0, 0, 0, 0);
+
+    private final long breakingTicks;
+    private final long bankingTicks;
+    private final long walkingTicks;
+    private final long offeringTicks;
+
+    ProcessingTimeEstimate(long breakingTicks, long bankingTicks, long walkingTicks, long offeringTicks) {
+        this.breakingTicks = breakingTicks;
+        this.bankingTicks = bankingTicks;
+        this.walkingTicks = walkingTicks;
+        this.offeringTicks = offeringTicks;
+    }
+
+    public long getBreakingTicks() {
+        return breakingTicks;
+    }
+
+    public long getBankingTicks() {
+        return bankingTicks;
+    }
+
+    public long getWalkingTicks() {
+        return walkingTicks;
+    }
+
+    public long getOfferingTicks() {
+        // Blessing wines at the altar and offering them at the libation bowl
+        return offeringTicks;
+    }
+
+    public long getTotalTicks() {
+        return breakingTicks + bankingTicks + walkingTicks + offeringTicks;
+    }
+
+    public Duration getDuration() {
+        return Duration.ofMillis(getTotalTicks() * TICK_MILLIS);
+    }
+
+    public String formatHoursMinutes() {
+        // Rounded up so any non-zero estimate shows at least a minute
+        long minutes = (getTotalTicks() * TICK_MILLIS + 59_999) / 60_000;
+        return String.format("%dh %02dm", minutes / 60, minutes % 60);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ProcessingTimeEstimate)) {
+            return false;
+        }
+        ProcessingTimeEstimate other = (ProcessingTimeEstimate) o;
+        return breakingTicks == other.breakingTicks
+                && bankingTicks == other.bankingTicks
+                && walkingTicks == other.walkingTicks
+                && offeringTicks == other.offeringTicks;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(breakingTicks) * 31 * 31 * 31
+                + Long.hashCode(bankingTicks) * 31 * 31
+                + Long.hashCode(walkingTicks) * 31
+                + Long.hashCode(offeringTicks);
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessingTimeEstimate{" +
+                "breakingTicks=" + breakingTicks +
+                ", bankingTicks=" + bankingTicks +
+                ", walkingTicks=" + walkingTicks +
+                ", offeringTicks=" + offeringTicks +
+                '}';
+    }
+}
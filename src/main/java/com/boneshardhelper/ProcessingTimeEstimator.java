@@ -0,0 +1,130 @@
+package com.boneshardhelper;
+
+// Estimates how long a TripPlan takes to carry out, in game ticks. Small plans are stepped through tick
+// by tick; larger plans (e.g. a 200M XP goal is thousands of trips) use the closed form, which gives
+// the same answer because every full trip is identical.
+// Action timings are approximate averages for a player running the usual route.
+public class ProcessingTimeEstimator {
+
+    // Chiselling one bone into shards
+    static final int TICKS_PER_BONE = 2;
+
+    // Depositing shards and withdrawing a fresh load of wines
+    static final int BANK_TICKS = 6;
+
+    static final int BANK_TO_ALTAR_TICKS = 22;
+
+    // Blessing every wine in the inventory at the Exposed Altar
+    static final int BLESS_TICKS = 3;
+
+    static final int ALTAR_TO_BOWL_TICKS = 6;
+
+    // Offering one blessed wine at the Libation Bowl
+    static final int TICKS_PER_WINE = 5;
+
+    static final int BOWL_TO_BANK_TICKS = 26;
+
+    // Plans with more trips than this skip the tick-by-tick simulation
+    static final int SIMULATION_TRIP_LIMIT = 64;
+
+    private enum Phase {
+        BANK,
+        WALK_TO_ALTAR,
+        BLESS,
+        WALK_TO_BOWL,
+        OFFER,
+        WALK_TO_BANK,
+        DONE
+    }
+
+    public ProcessingTimeEstimate estimate(TripPlan plan, int bonesToBreak) {
+        if (plan == null) {
+            throw new IllegalArgumentException("Trip plan cannot be null");
+        }
+        if (bonesToBreak < 0) {
+            throw new IllegalArgumentException("Bones to break cannot be negative");
+        }
+
+        if (!plan.isFeasible() || plan.getTripCount() == 0) {
+            return bonesToBreak == 0 ? ProcessingTimeEstimate.EMPTY
+                    : new ProcessingTimeEstimate((long) bonesToBreak * TICKS_PER_BONE, 0, 0, 0);
+        }
+
+        if (plan.getTripCount() <= SIMULATION_TRIP_LIMIT) {
+            return simulate(plan, bonesToBreak);
+        }
+        return closedForm(plan, bonesToBreak);
+    }
+
+    ProcessingTimeEstimate simulate(TripPlan plan, int bonesToBreak) {
+        long breakingTicks = (long) bonesToBreak * TICKS_PER_BONE;
+        long bankingTicks = 0;
+        long walkingTicks = 0;
+        long offeringTicks = 0;
+
+        for (int trip = 0; trip < plan.getTripCount(); trip++) {
+            int wines = plan.getWinesOnTrip(trip);
+            boolean lastTrip = trip == plan.getTripCount() - 1;
+
+            Phase phase = Phase.BANK;
+            int remaining = BANK_TICKS;
+            while (phase != Phase.DONE) {
+                // One game tick spent in the current phase
+                switch (phase) {
+                    case BANK:
+                        bankingTicks++;
+                        break;
+                    case BLESS:
+                    case OFFER:
+                        offeringTicks++;
+                        break;
+                    default:
+                        walkingTicks++;
+                        break;
+                }
+
+                if (--remaining > 0) {
+                    continue;
+                }
+
+                switch (phase) {
+                    case BANK:
+                        phase = Phase.WALK_TO_ALTAR;
+                        remaining = BANK_TO_ALTAR_TICKS;
+                        break;
+                    case WALK_TO_ALTAR:
+                        phase = Phase.BLESS;
+                        remaining = BLESS_TICKS;
+                        break;
+                    case BLESS:
+                        phase = Phase.WALK_TO_BOWL;
+                        remaining = ALTAR_TO_BOWL_TICKS;
+                        break;
+                    case WALK_TO_BOWL:
+                        phase = Phase.OFFER;
+                        remaining = wines * TICKS_PER_WINE;
+                        break;
+                    case OFFER:
+                        // No need to walk back after the final trip
+                        phase = lastTrip ? Phase.DONE : Phase.WALK_TO_BANK;
+                        remaining = BOWL_TO_BANK_TICKS;
+                        break;
+                    default:
+                        phase = Phase.DONE;
+                        break;
+                }
+            }
+        }
+
+        return new ProcessingTimeEstimate(breakingTicks, bankingTicks, walkingTicks, offeringTicks);
+    }
+
+    ProcessingTimeEstimate closedForm(TripPlan plan, int bonesToBreak) {
+        long trips = plan.getTripCount();
+        long breakingTicks = (long) bonesToBreak * TICKS_PER_BONE;
+        long bankingTicks = trips * BANK_TICKS;
+        long walkingTicks = trips * (BANK_TO_ALTAR_TICKS + ALTAR_TO_BOWL_TICKS) + (trips - 1) * BOWL_TO_BANK_TICKS;
+        long offeringTicks = trips * BLESS_TICKS + (long) plan.getTotalWines() * TICKS_PER_WINE;
+        return new ProcessingTimeEstimate(breakingTicks, bankingTicks, walkingTicks, offeringTicks);
+    }
+}
@@ -0,0 +1,65 @@
+package com.boneshardhelper;
+
+import java.util.function.IntConsumer;
+import javax.swing.Timer;
+
+// Coalesces recalculation requests from the panel's input listeners. Requests arriving within the
+// delay window are merged into one run on the EDT, which reads whatever the inputs are by then.
+// Asynchronous work (inventory scans) is versioned per target: each start or newer bone data bumps the
+// target's generation, and a result that comes back with an older generation is discarded.
+// Only used from the EDT.
+class RecalculationScheduler {
+	static final int GOAL_MODE = 1;
+	static final int RESOURCE_MODE = 1 << 1;
+	static final int RESOURCE_PLANNING = 1 << 2;
+
+	private static final int COALESCE_DELAY_MS = 75;
+
+	private final IntConsumer runner;
+	private final Timer timer;
+
+	// Bitmask of the targets requested since the last run
+	private int pendingTargets = 0;
+
+	// Generation of each target, indexed by the position of its bit
+	private final int[] generations = new int[3];
+
+	RecalculationScheduler(IntConsumer runner) {
+		this.runner = runner;
+		this.timer = new Timer(COALESCE_DELAY_MS, e -> flush());
+		this.timer.setRepeats(false);
+	}
+
+	void request(int targets) {
+		pendingTargets |= targets;
+		timer.restart();
+	}
+
+	void flush() {
+		// Runs anything pending right away, e.g. before a tab switch recalculates anyway
+		timer.stop();
+		int targets = pendingTargets;
+		pendingTargets = 0;
+		if (targets != 0) {
+			runner.accept(targets);
+		}
+	}
+
+	int startAsync(int target) {
+		// Returns the generation to hand back to isCurrent() when the work completes
+		return ++generations[Integer.numberOfTrailingZeros(target)];
+	}
+
+	boolean isCurrent(int target, int generation) {
+		return generations[Integer.numberOfTrailingZeros(target)] == generation;
+	}
+
+	void invalidate(int targets) {
+		// Newer data has been applied directly, so results of work already in flight are stale
+		for (int bit = 0; bit < generations.length; bit++) {
+			if ((targets & (1 << bit)) != 0) {
+				generations[bit]++;
+			}
+		}
+	}
+}
@@ -5,6 +5,9 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.GridLayout;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
 import javax.swing.JButton;
@@ -39,6 +42,9 @@ class ResourceModePanel extends JPanel {
 	// Config reference for debug mode
 	private BoneShardHelperConfig config;
 
+	// Calculation engine shared with Goal Mode
+	private final PrayerCalculationEngine calculationEngine;
+
 	// Debug section (only visible when debug mode is enabled)
 	private FoldingSection debugSection;
 	private JTextField uiFieldDebugShardOverride;
@@ -46,19 +52,44 @@ class ResourceModePanel extends JPanel {
 	// Store the last scanned shard total for debug override functionality
 	private int lastScannedShardTotal = 0;
 
+	// Bone counts behind lastScannedShardTotal, used for the processing time estimate
+	private final Map<BoneType, Integer> lastScannedBones = new EnumMap<>(BoneType.class);
+
+	// Counted wine supplies, indexed by WineSupply ordinal, kept up to date by the container tracker
+	private int[] supplyCounts = new int[WineSupply.getCount()];
+
+	// Trip and processing time estimates for the scanned shards
+	private final TripPlanner tripPlanner = new TripPlanner();
+	private final ProcessingTimeEstimator processingTimeEstimator = new ProcessingTimeEstimator();
+
 	// Item manager for icons
 	private net.runelite.client.game.ItemManager itemManager;
+
+	// Pre-scaled icons for the table renderers
+	private ItemIconCache iconCache;
+
+	// Breakdown rows are keyed by display name (first match wins, as in the old linear search)
+	private static final Map<String, BoneType> BONE_TYPES_BY_DISPLAY_NAME = new HashMap<>();
+
+	static {
+		for (BoneType boneType : BoneType.values()) {
+			BONE_TYPES_BY_DISPLAY_NAME.putIfAbsent(boneType.getDisplayName(), boneType);
+		}
+	}
 	private JTable referenceTable;
 	private final JTable resourceBreakdownTable;
 	private final JLabel totalShardsLabel;
 	private final JLabel totalXPValueLabel;
 	private final JLabel totalWineLabel;
 	private final JLabel achievableLevelLabel;
+	private final JLabel processingTimeLabel;
+	private final JLabel suppliesLabel;
 	private final JLabel zealotRobesWarningLabel;
 	private final JLabel debugStatusLabel;
 
-	ResourceModePanel(BoneShardHelperConfig config) {
+	ResourceModePanel(BoneShardHelperConfig config, PrayerCalculationEngine calculationEngine) {
 		this.config = config;
+		this.calculationEngine = calculationEngine;
 		setLayout(new BorderLayout());
 		setBackground(ColorScheme.DARK_GRAY_COLOR);
 
@@ -120,6 +151,8 @@ class ResourceModePanel extends JPanel {
 		totalXPValueLabel = new JLabel("Scan inventory to see results");
 		totalWineLabel = new JLabel("Scan inventory to see results");
 		achievableLevelLabel = new JLabel("Scan inventory to see results");
+		processingTimeLabel = new JLabel("Scan inventory to see results");
+		suppliesLabel = new JLabel("Scan inventory to see results");
 
 		// Create Goal Mode-style results section
 		FoldingSection resultsSection = createCalculationResultsSection();
@@ -415,7 +448,7 @@ class ResourceModePanel extends JPanel {
 		// 		and achievable level enclosed in a FoldingSection.
 		// Create a vertical panel for all the labels
 		JPanel labelsPanel = new JPanel();
-		labelsPanel.setLayout(new java.awt.GridLayout(4, 1, 0, 2)); // 4 rows, 1 column, 2px vertical gap
+		labelsPanel.setLayout(new java.awt.GridLayout(6, 1, 0, 2)); // 6 rows, 1 column, 2px vertical gap
 		labelsPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
 
 		// Total Shard Value label with blessed bone shards icon
@@ -442,6 +475,18 @@ class ResourceModePanel extends JPanel {
 		achievableLevelLabel.setFont(FontManager.getRunescapeSmallFont());
 		labelsPanel.add(achievableLevelLabel);
 
+		// Processing time label
+		processingTimeLabel.setText("Scan inventory to see results");
+		processingTimeLabel.setForeground(Color.WHITE);
+		processingTimeLabel.setFont(FontManager.getRunescapeSmallFont());
+		labelsPanel.add(processingTimeLabel);
+
+		// Wine supplies label, showing which resource runs out first
+		suppliesLabel.setText("Scan inventory to see results");
+		suppliesLabel.setForeground(Color.WHITE);
+		suppliesLabel.setFont(FontManager.getRunescapeSmallFont());
+		labelsPanel.add(suppliesLabel);
+
 		// Create content panel to hold the labels
 		JPanel contentPanel = new JPanel(new java.awt.BorderLayout());
 		contentPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
@@ -468,28 +513,13 @@ class ResourceModePanel extends JPanel {
 			}
 		};
 
+		// Consolidated types are already ranked by shard value, highest first
 		java.util.List<BoneType> boneTypesList = new java.util.ArrayList<>();
+		for (int rank = 0; rank < BoneType.getConsolidatedTypeCount(); rank++) {
+			BoneType boneType = BoneType.getConsolidatedTypeByRank(rank);
+			boneTypesList.add(boneType);
 
-		java.util.Set<BoneType> processedTypes = new java.util.HashSet<>();
-
-		for (BoneType boneType : BoneType.values()) {
-			// Skip bone shards themselves
-			if (boneType == BoneType.BLESSED_BONE_SHARDS) {
-				continue;
-			}
-
-			// Get the consolidated bone type
-			BoneType consolidatedType = getConsolidatedBoneType(boneType);
-
-			// Skip if we've already processed this consolidated type (necessary in some conditions)
-			if (processedTypes.contains(consolidatedType)) {
-				continue;
-			}
-
-			processedTypes.add(consolidatedType);
-			boneTypesList.add(consolidatedType);
-
-			model.addRow(new Object[] { consolidatedType.getDisplayName(), consolidatedType.getShardValue() });
+			model.addRow(new Object[] { boneType.getDisplayName(), boneType.getShardValue() });
 		}
 
 		JTable table = new JTable(model);
@@ -600,6 +630,7 @@ class ResourceModePanel extends JPanel {
 
 			DefaultTableModel model = (DefaultTableModel) resourceBreakdownTable.getModel();
 			model.setRowCount(0); // Clear existing data
+			lastScannedBones.clear();
 
 			long totalShardsLong = 0;
 			int validEntries = 0;
@@ -635,6 +666,7 @@ class ResourceModePanel extends JPanel {
 
 					totalShardsLong += shardValue;
 					validEntries++;
+					lastScannedBones.put(boneType, quantity);
 
 					model.addRow(new Object[] {
 							String.format("%,d", quantity),
@@ -679,6 +711,54 @@ class ResourceModePanel extends JPanel {
 		}
 	}
 
+	public void applyBoneCountChanges(Map<BoneType, Integer> changedCounts, int totalShards) {
+		// Updates only the breakdown rows whose counts changed, then refreshes the totals.
+		try {
+			DefaultTableModel model = (DefaultTableModel) resourceBreakdownTable.getModel();
+
+			for (Map.Entry<BoneType, Integer> entry : changedCounts.entrySet()) {
+				BoneType boneType = entry.getKey();
+				int quantity = entry.getValue();
+				int row = findBreakdownRow(model, boneType.getDisplayName());
+
+				if (quantity <= 0) {
+					lastScannedBones.remove(boneType);
+					if (row >= 0) {
+						model.removeRow(row);
+					}
+					continue;
+				}
+
+				lastScannedBones.put(boneType, quantity);
+
+				String quantityText = String.format("%,d", quantity);
+				String shardText = String.format("%,d", (long) boneType.getShardValue() * quantity);
+				if (row >= 0) {
+					model.setValueAt(quantityText, row, 0);
+					model.setValueAt(shardText, row, 2);
+				} else {
+					model.addRow(new Object[] { quantityText, boneType.getDisplayName(), shardText });
+				}
+			}
+
+			lastScannedShardTotal = totalShards;
+			updateTotalShardsLabel();
+			updateAchievableLevel(getEffectiveTotalShards(totalShards), getCurrentXPInput(), isSunfireWineSelected());
+		} catch (Exception e) {
+			log.error("Prayer Calculator: Error applying bone count changes", e);
+			updateDebugError("Error updating resource breakdown: " + e.getMessage());
+		}
+	}
+
+	private static int findBreakdownRow(DefaultTableModel model, String displayName) {
+		for (int row = 0; row < model.getRowCount(); row++) {
+			if (displayName.equals(model.getValueAt(row, 1))) {
+				return row;
+			}
+		}
+		return -1;
+	}
+
 	public void updateAchievableLevel(int totalShards, int currentXP, boolean useSunfireWine) {
 		// Updates the achievable level display based on available shards and wine type.
 		try {
@@ -695,8 +775,7 @@ class ResourceModePanel extends JPanel {
 
 			// Calculate XP per shard including zealot robes multiplier
 			boolean useZealotRobes = isZealotRobesSelected();
-			double baseXpPerShard = useSunfireWine ? 6.0 : 5.0;
-			double xpPerShard = useZealotRobes ? baseXpPerShard * 1.05 : baseXpPerShard;
+			double xpPerShard = PrayerDataSnapshot.xpPerShard(useSunfireWine, useZealotRobes);
 
 			// Calculate total XP gain with overflow protection
 			long totalXPGainLong = (long) Math.round(totalShards * xpPerShard);
@@ -718,11 +797,22 @@ class ResourceModePanel extends JPanel {
 				return;
 			}
 
-			int finalXP = (int) finalXPLong;
-
+			// Let the engine resolve the ending level so both modes agree; the shard total is passed as plain
+			// bone shards (1 shard each) since only the total matters here
+			int currentLevel = PrayerConstants.getLevelForXP(currentXP);
+			PrayerData prayerData = new PrayerData();
+			prayerData.setCurrentXP(currentXP);
+			prayerData.setCurrentLevel(currentLevel);
+			prayerData.setTargetLevel(currentLevel);
+			prayerData.setUseSunfireWine(useSunfireWine);
+			prayerData.setUseZealotRobes(useZealotRobes);
+			prayerData.setAvailableBones(Collections.singletonMap(BoneType.BLESSED_BONE_SHARDS, totalShards));
+
+			CalculationResult result;
 			int achievableLevel;
 			try {
-				achievableLevel = net.runelite.api.Experience.getLevelForXp(finalXP);
+				result = calculationEngine.calculateFromResources(prayerData);
+				achievableLevel = result.getAchievableLevel();
 
 				// Validate the result
 				if (achievableLevel < 1 || achievableLevel > 126) {
@@ -731,7 +821,8 @@ class ResourceModePanel extends JPanel {
 				}
 			} catch (Exception e) {
 				updateDebugError("Error calculating level from XP: " + e.getMessage());
-				achievableLevel = net.runelite.api.Experience.getLevelForXp(currentXP); // Fallback to current level
+				result = null;
+				achievableLevel = currentLevel; // Fallback to current level
 			}
 
 			// Update displays with improved format
@@ -740,9 +831,8 @@ class ResourceModePanel extends JPanel {
 			totalXPValueLabel.setText(String.format("%,d XP (%s wine%s)",
 					totalXPGain, wineType, robesText));
 
-			// Calculate wine requirements using existing calculation engine (400 shards per wine)
-			PrayerCalculationEngine calculationEngine = new PrayerCalculationEngine();
-			int winesNeeded = calculationEngine.calculateWinesNeeded(totalShards);
+			// Wine requirements come from the same engine result (400 shards per wine)
+			int winesNeeded = result != null ? result.getWinesNeeded() : calculationEngine.calculateWinesNeeded(totalShards);
 			String wineTypeCapitalized = useSunfireWine ? "Sunfire wine" : "Regular wine";
 			totalWineLabel.setText(String.format("%,d %s", winesNeeded, wineTypeCapitalized.toLowerCase()));
 
@@ -758,7 +848,6 @@ class ResourceModePanel extends JPanel {
 			}
 
 			// Calculate level gain and format with color
-			int currentLevel = net.runelite.api.Experience.getLevelForXp(currentXP);
 			int levelGain = achievableLevel - currentLevel;
 
 			String levelGainText;
@@ -771,6 +860,9 @@ class ResourceModePanel extends JPanel {
 			achievableLevelLabel.setText(String.format("<html>Ending Level: %d %s</html>",
 					achievableLevel, levelGainText));
 
+			updateProcessingTime(totalShards, currentLevel);
+			updateSupplyAnalysis(totalShards, useSunfireWine);
+
 			// Update zealot robes warning
 			updateZealotRobesWarning();
 
@@ -779,6 +871,62 @@ class ResourceModePanel extends JPanel {
 			updateDebugError("Calculation error: " + e.getMessage());
 			totalXPValueLabel.setText("Calculation error");
 			achievableLevelLabel.setText("Calculation error");
+			processingTimeLabel.setText("Calculation error");
+		}
+	}
+
+	private void updateProcessingTime(int totalShards, int currentLevel) {
+		// A debug override doesn't come from scanned bones, so there is nothing to break down
+		int bonesToBreak = 0;
+		int notedBoneTypes = 0;
+		if (totalShards == lastScannedShardTotal) {
+			for (Map.Entry<BoneType, Integer> entry : lastScannedBones.entrySet()) {
+				if (entry.getKey() != BoneType.BLESSED_BONE_SHARDS) {
+					bonesToBreak += entry.getValue();
+					notedBoneTypes++;
+				}
+			}
+		}
+
+		// Prayer points at full prayer are the current level, up to 99
+		TripPlan tripPlan = tripPlanner.plan(totalShards, notedBoneTypes,
+				PrayerConstants.getMaxPrayerPoints(currentLevel));
+		if (!tripPlan.isFeasible()) {
+			processingTimeLabel.setText("No room for wines");
+			return;
+		}
+
+		ProcessingTimeEstimate estimate = processingTimeEstimator.estimate(tripPlan, bonesToBreak);
+		processingTimeLabel.setText(String.format("~%s (%,d trip%s)", estimate.formatHoursMinutes(),
+				tripPlan.getTripCount(), tripPlan.getTripCount() == 1 ? "" : "s"));
+	}
+
+	public void updateSupplies(int[] supplyCounts) {
+		// Only the supplies changed, so the shard total and wine type are the ones last shown
+		this.supplyCounts = supplyCounts;
+		updateSupplyAnalysis(getEffectiveTotalShards(lastScannedShardTotal), isSunfireWineSelected());
+	}
+
+	private void updateSupplyAnalysis(int totalShards, boolean useSunfireWine) {
+		SupplyAnalysis analysis = calculationEngine.analyzeSupplies(totalShards, supplyCounts, useSunfireWine);
+		String stock = String.format("%,d wine%s (%,d shards)", analysis.getWinesAvailable(),
+				analysis.getWinesAvailable() == 1 ? "" : "s", analysis.getShardsProcessable());
+
+		switch (analysis.getBottleneck()) {
+			case WINES:
+				suppliesLabel.setText(String.format("<html>%s: <font color='#FFA500'>%,d more wine%s</font></html>",
+						stock, analysis.getWinesShort(), analysis.getWinesShort() == 1 ? "" : "s"));
+				suppliesLabel.setToolTipText("Limited by wines - you will run out of wine before shards");
+				break;
+			case SPLINTERS:
+				suppliesLabel.setText(String.format("<html>%s: <font color='#FFA500'>%,d more splinters</font></html>",
+						stock, analysis.getSplintersShort()));
+				suppliesLabel.setToolTipText("Limited by sunfire splinters - jugs of wine are left unconverted");
+				break;
+			default:
+				suppliesLabel.setText(String.format("<html>%s: <font color='#00FF00'>enough</font></html>", stock));
+				suppliesLabel.setToolTipText("Limited by shards - you have wine for every shard");
+				break;
 		}
 	}
 
@@ -819,10 +967,14 @@ class ResourceModePanel extends JPanel {
 		
 		// Reset the stored scanned total
 		lastScannedShardTotal = 0;
+		lastScannedBones.clear();
 		
 		totalShardsLabel.setText("Scan inventory to see results");
 		totalXPValueLabel.setText("Scan inventory to see results");
 		achievableLevelLabel.setText("Scan inventory to see results");
+		processingTimeLabel.setText("Scan inventory to see results");
+		suppliesLabel.setText("Scan inventory to see results");
+		suppliesLabel.setToolTipText(null);
 		zealotRobesWarningLabel.setText("<html>&nbsp;</html>"); // Clear warning
 
 		// Clear icons
@@ -838,6 +990,7 @@ class ResourceModePanel extends JPanel {
 
 	public void setItemManager(net.runelite.client.game.ItemManager itemManager) {
 		this.itemManager = itemManager;
+		this.iconCache = itemManager != null ? new ItemIconCache(itemManager) : null;
 
 		if (itemManager != null) {
 			loadStaticIcons();
@@ -1040,63 +1193,6 @@ class ResourceModePanel extends JPanel {
 		}
 	}
 
-	private int getBoneItemId(BoneType boneType) {
-		// Map blessed bone types to their unblessed item IDs for icon display
-		switch (boneType) {
-			case BLESSED_BONES:
-				return 526; // Regular bones
-			case BLESSED_BAT_BONES:
-				return 530; // Bat bones
-			case BLESSED_BIG_BONES:
-				return 532; // Big bones
-			case BLESSED_BABYDRAGON_BONES:
-				return 534; // Babydragon bones
-			case BLESSED_DRAGON_BONES:
-				return 536; // Dragon bones
-			case BLESSED_WYVERN_BONES:
-				return 6812; // Wyvern bones
-			case BLESSED_DRAKE_BONES:
-				return 22783; // Drake bones
-			case BLESSED_FAYRG_BONES:
-				return 4830; // Fayrg bones
-			case BLESSED_LAVA_DRAGON_BONES:
-				return 11943; // Lava dragon bones
-			case BLESSED_RAURG_BONES:
-				return 4832; // Raurg bones
-			case BLESSED_DAGANNOTH_BONES:
-				return 6729; // Dagannoth bones
-			case BLESSED_OURG_BONES:
-				return 4834; // Ourg bones
-			case BLESSED_SUPERIOR_DRAGON_BONES:
-				return 22124; // Superior dragon bones
-			case BLESSED_BABYWYRM_BONES:
-				return 28899; // Babywyrm bones (wyrmling bones)
-			case BLESSED_WYRM_BONES:
-				return 22780; // Wyrm bones
-			case BLESSED_HYDRA_BONES:
-				return 22786; // Hydra bones
-			case BLESSED_ZOGRE_BONES:
-				return 4812; // Zogre bones
-			case BLESSED_FROST_DRAGON_BONES:
-				return 31729; // Frost dragon bones
-			case BLESSED_STRYKEWYRM_BONES:
-				return 31726; // Strykewyrm bones
-			case BLESSED_BONE_STATUETTE0:
-			case BLESSED_BONE_STATUETTE1:
-			case BLESSED_BONE_STATUETTE2:
-			case BLESSED_BONE_STATUETTE3:
-			case BLESSED_BONE_STATUETTE4:
-				return 29338; // Use blessed bone statuette icon (no unblessed version)
-			case BLESSED_BONE_SHARDS:
-				return 29381; // Bone shards (no unblessed version)
-			case SUN_KISSED_BONES:
-				return 29380; // Sun-kissed bones (no unblessed version)
-			default:
-				// For unblessed bones and other types I may have missed, use regular version
-				return boneType.getBaseItemId();
-		}
-	}
-
 	private void setupReferenceTableColumns(JTable table) {
 		if (table.getColumnCount() >= 2) {
 			table.getColumnModel().getColumn(0).setPreferredWidth(225); // Bone Type - 75%
@@ -1120,57 +1216,6 @@ class ResourceModePanel extends JPanel {
 		}
 	}
 
-	private BoneType getConsolidatedBoneType(BoneType boneType) {
-		// Consolidate variations
-		switch (boneType) {
-			case BLESSED_BONE_STATUETTE1:
-			case BLESSED_BONE_STATUETTE2:
-			case BLESSED_BONE_STATUETTE3:
-			case BLESSED_BONE_STATUETTE4:
-				return BoneType.BLESSED_BONE_STATUETTE0;
-			case BONES:
-				return BoneType.BLESSED_BONES;
-			case BAT_BONES:
-				return BoneType.BLESSED_BAT_BONES;
-			case BIG_BONES:
-				return BoneType.BLESSED_BIG_BONES;
-			case BABYDRAGON_BONES:
-				return BoneType.BLESSED_BABYDRAGON_BONES;
-			case DRAGON_BONES:
-				return BoneType.BLESSED_DRAGON_BONES;
-			case WYVERN_BONES:
-				return BoneType.BLESSED_WYVERN_BONES;
-			case DRAKE_BONES:
-				return BoneType.BLESSED_DRAKE_BONES;
-			case FAYRG_BONES:
-				return BoneType.BLESSED_FAYRG_BONES;
-			case LAVA_DRAGON_BONES:
-				return BoneType.BLESSED_LAVA_DRAGON_BONES;
-			case RAURG_BONES:
-				return BoneType.BLESSED_RAURG_BONES;
-			case DAGANNOTH_BONES:
-				return BoneType.BLESSED_DAGANNOTH_BONES;
-			case OURG_BONES:
-				return BoneType.BLESSED_OURG_BONES;
-			case SUPERIOR_DRAGON_BONES:
-				return BoneType.BLESSED_SUPERIOR_DRAGON_BONES;
-			case BABYWYRM_BONES:
-				return BoneType.BLESSED_BABYWYRM_BONES;
-			case WYRM_BONES:
-				return BoneType.BLESSED_WYRM_BONES;
-			case HYDRA_BONES:
-				return BoneType.BLESSED_HYDRA_BONES;
-			case ZOGRE_BONES:
-				return BoneType.BLESSED_ZOGRE_BONES;
-			case FROST_DRAGON_BONES:
-				return BoneType.BLESSED_FROST_DRAGON_BONES;
-			case STRYKEWYRM_BONES:
-				return BoneType.BLESSED_STRYKEWYRM_BONES;
-			default:
-				return boneType; // Return original type for blessed bones and special types
-		}
-	}
-
 	private class BoneTypeIconRenderer extends javax.swing.table.DefaultTableCellRenderer {
 		private final java.util.List<BoneType> boneTypes;
 		private static final int MAX_ICON_SIZE = 16; // Maximum icon size in pixels
@@ -1198,78 +1243,16 @@ class ResourceModePanel extends JPanel {
 			// Set the font
 			setFont(table.getFont());
 
-			// Add icon if we have a valid row and ItemManager is available
-			if (row >= 0 && row < boneTypes.size() && itemManager != null) {
-				BoneType boneType = boneTypes.get(row);
-				try {
-					int itemId = getBoneItemId(boneType);
-					if (itemId > 0) {
-						// Clear any existing icon first
-						setIcon(null);
-						// Load and scale the icon using ItemManager
-						loadScaledIcon(itemId);
-					}
-				} catch (Exception e) {
-					log.error("Error loading icon for {}", boneType.getDisplayName(), e);
-					setIcon(null);
-				}
+			// Look up the pre-scaled icon; the table is repainted once it finishes loading
+			if (row >= 0 && row < boneTypes.size() && iconCache != null) {
+				int itemId = boneTypes.get(row).getMetadata().getIconItemId();
+				setIcon(itemId > 0 ? iconCache.getIcon(itemId, MAX_ICON_SIZE, table) : null);
 			} else {
 				setIcon(null);
 			}
 
 			return this;
 		}
-
-		private void loadScaledIcon(int itemId) {
-			try {
-				// Clear any existing icon first
-				setIcon(null);
-				// Load the icon using ItemManager
-				itemManager.getImage(itemId).addTo(this);
-				// Scale the icon after it's loaded
-				scaleIconToMaxSize(MAX_ICON_SIZE);
-			} catch (Exception e) {
-				log.error("Error loading icon for item {}", itemId, e);
-				setIcon(null);
-			}
-		}
-
-		private void scaleIconToMaxSize(int maxSize) {
-			javax.swing.Icon currentIcon = getIcon();
-			if (currentIcon == null) {
-				return;
-			}
-
-			int iconWidth = currentIcon.getIconWidth();
-			int iconHeight = currentIcon.getIconHeight();
-
-			// Only scale if the icon is larger than maxSize
-			if (iconWidth <= maxSize && iconHeight <= maxSize) {
-				return;
-			}
-
-			try {
-				// Calculate scaling factor to maintain aspect ratio
-				double scaleX = (double) maxSize / iconWidth;
-				double scaleY = (double) maxSize / iconHeight;
-				double scale = Math.min(scaleX, scaleY);
-
-				int newWidth = (int) (iconWidth * scale);
-				int newHeight = (int) (iconHeight * scale);
-
-				// Create scaled image if the icon is an ImageIcon
-				if (currentIcon instanceof javax.swing.ImageIcon) {
-					javax.swing.ImageIcon imageIcon = (javax.swing.ImageIcon) currentIcon;
-					java.awt.Image originalImage = imageIcon.getImage();
-					java.awt.Image scaledImage = originalImage.getScaledInstance(newWidth, newHeight,
-							java.awt.Image.SCALE_SMOOTH);
-					setIcon(new javax.swing.ImageIcon(scaledImage));
-				}
-			} catch (Exception e) {
-				log.error("Error scaling icon", e);
-			}
-		}
-
 	}
 
 	private class ResourceBreakdownIconRenderer extends javax.swing.table.DefaultTableCellRenderer {
@@ -1294,90 +1277,17 @@ class ResourceModePanel extends JPanel {
 			// Set the font
 			setFont(table.getFont());
 
-			// Add icon if we have a valid value and ItemManager is available
-			if (value != null && itemManager != null) {
-				String boneTypeName = value.toString();
-				try {
-					// Find the bone type by display name
-					BoneType boneType = findBoneTypeByDisplayName(boneTypeName);
-					if (boneType != null) {
-						int itemId = getBoneItemId(boneType);
-						if (itemId > 0) {
-							// Clear any existing icon first
-							setIcon(null);
-							// Load and scale the icon using ItemManager
-							loadScaledIcon(itemId);
-						}
-					}
-				} catch (Exception e) {
-					log.error("Error loading icon for {}", boneTypeName, e);
-					setIcon(null);
-				}
+			// Look up the pre-scaled icon; the table is repainted once it finishes loading
+			BoneType boneType = value != null ? BONE_TYPES_BY_DISPLAY_NAME.get(value.toString()) : null;
+			if (boneType != null && iconCache != null) {
+				int itemId = boneType.getMetadata().getIconItemId();
+				setIcon(itemId > 0 ? iconCache.getIcon(itemId, MAX_ICON_SIZE, table) : null);
 			} else {
 				setIcon(null);
 			}
 
 			return this;
 		}
-
-		private BoneType findBoneTypeByDisplayName(String displayName) {
-			for (BoneType boneType : BoneType.values()) {
-				if (boneType.getDisplayName().equals(displayName)) {
-					return boneType;
-				}
-			}
-			return null;
-		}
-
-		private void loadScaledIcon(int itemId) {
-			try {
-				// Clear any existing icon first
-				setIcon(null);
-				// Load the icon using ItemManager
-				itemManager.getImage(itemId).addTo(this);
-				// Scale the icon after it's loaded
-				scaleIconToMaxSize(MAX_ICON_SIZE);
-			} catch (Exception e) {
-				log.error("Error loading icon for item {}", itemId, e);
-				setIcon(null);
-			}
-		}
-
-		private void scaleIconToMaxSize(int maxSize) {
-			javax.swing.Icon currentIcon = getIcon();
-			if (currentIcon == null) {
-				return;
-			}
-
-			int iconWidth = currentIcon.getIconWidth();
-			int iconHeight = currentIcon.getIconHeight();
-
-			// Only scale if the icon is larger than maxSize
-			if (iconWidth <= maxSize && iconHeight <= maxSize) {
-				return;
-			}
-
-			try {
-				// Calculate scaling factor to maintain aspect ratio
-				double scaleX = (double) maxSize / iconWidth;
-				double scaleY = (double) maxSize / iconHeight;
-				double scale = Math.min(scaleX, scaleY);
-
-				int newWidth = (int) (iconWidth * scale);
-				int newHeight = (int) (iconHeight * scale);
-
-				// Create scaled image if the icon is an ImageIcon
-				if (currentIcon instanceof javax.swing.ImageIcon) {
-					javax.swing.ImageIcon imageIcon = (javax.swing.ImageIcon) currentIcon;
-					java.awt.Image originalImage = imageIcon.getImage();
-					java.awt.Image scaledImage = originalImage.getScaledInstance(newWidth, newHeight,
-							java.awt.Image.SCALE_SMOOTH);
-					setIcon(new javax.swing.ImageIcon(scaledImage));
-				}
-			} catch (Exception e) {
-				log.error("Error scaling icon", e);
-			}
-		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.boneshardhelper;
+
+// Immutable trip plan. All trips carry the same loadout except the last, which takes whatever is left,
+// so per-trip loadouts are computed on demand instead of being stored.
+public final class TripPlan {
+
+    // What caps the number of wines on a single trip
+    public enum Limit {
+        NONE,
+        INVENTORY,
+        PRAYER
+    }
+
+    static final TripPlan EMPTY = new TripPlan(0, 0, 0, 0, 0, Limit.NONE, true);
+
+    private final int totalShards;
+    private final int totalWines;
+    private final int tripCount;
+    private final int winesPerTrip;
+    private final int reservedSlots;
+    private final Limit limit;
+    private final boolean feasible;
+
+    TripPlan(int totalShards, int totalWines, int tripCount, int winesPerTrip, int reservedSlots, Limit limit,
+            boolean feasible) {
+        this.totalShards = totalShards;
+        this.totalWines = totalWines;
+        this.tripCount = tripCount;
+        this.winesPerTrip = winesPerTrip;
+        this.reservedSlots = reservedSlots;
+        this.limit = limit;
+        this.feasible = feasible;
+    }
+
+    public int getTotalShards() {
+        return totalShards;
+    }
+
+    public int getTotalWines() {
+        return totalWines;
+    }
+
+    public int getTripCount() {
+        return tripCount;
+    }
+
+    public int getWinesPerTrip() {
+        return winesPerTrip;
+    }
+
+    public int getReservedSlots() {
+        // Slots taken by shards, noted bones and a chisel on every trip
+        return reservedSlots;
+    }
+
+    public Limit getLimit() {
+        return limit;
+    }
+
+    public boolean isFeasible() {
+        // False when the reserved slots or prayer points leave no room for a single wine
+        return feasible;
+    }
+
+    public int getWinesOnTrip(int trip) {
+        checkTrip(trip);
+        int winesBefore = trip * winesPerTrip;
+        return Math.min(winesPerTrip, totalWines - winesBefore);
+    }
+
+    public int getShardsOnTrip(int trip) {
+        // Each wine takes up to SHARDS_PER_WINE shards; the last wine may take fewer
+        checkTrip(trip);
+        long shardsBefore = (long) trip * winesPerTrip * PrayerConstants.SHARDS_PER_WINE;
+        long shardsThisTrip = (long) getWinesOnTrip(trip) * PrayerConstants.SHARDS_PER_WINE;
+        return (int) Math.max(0, Math.min(shardsThisTrip, totalShards - shardsBefore));
+    }
+
+    public int getFreeSlotsOnTrip(int trip) {
+        return Math.max(0, PrayerConstants.INVENTORY_SIZE - reservedSlots - getWinesOnTrip(trip));
+    }
+
+    private void checkTrip(int trip) {
+        if (trip < 0 || trip >= tripCount) {
+            throw new IllegalArgumentException("Trip must be between 0 and " + (tripCount - 1));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TripPlan{" +
+                "totalShards=" + totalShards +
+                ", totalWines=" + totalWines +
+                ", tripCount=" + tripCount +
+                ", winesPerTrip=" + winesPerTrip +
+                ", reservedSlots=" + reservedSlots +
+                ", limit=" + limit +
+                ", feasible=" + feasible +
+                '}';
+    }
+}
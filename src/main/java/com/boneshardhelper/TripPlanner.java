@@ -0,0 +1,86 @@
+package com.boneshardhelper;
+
+// Turns an engine result into trips to the altar. A trip is one load of wines: shards (one stackable
+// slot), noted bones still to be chiselled (one slot per type, plus a chisel) and as many jugs of wine
+// as fit in the remaining slots. All wines are blessed in a single altar visit, then offered at the
+// libation bowl until the wines or the player's prayer points run out. Both steps drain prayer.
+// Constant time, so it can run on every input change.
+public class TripPlanner {
+
+    public TripPlan plan(CalculationResult result, int prayerPoints) {
+        if (result == null) {
+            throw new IllegalArgumentException("Calculation result cannot be null");
+        }
+
+        return plan(getShardsToOffer(result.getRequiredShards(), result.getTotalAvailableShards()),
+                getNotedBoneTypes(result.getBones()), prayerPoints);
+    }
+
+    public TripPlan plan(CalculationResultSnapshot result, int prayerPoints) {
+        if (result == null) {
+            throw new IllegalArgumentException("Calculation result cannot be null");
+        }
+
+        return plan(getShardsToOffer(result.getRequiredShards(), result.getTotalAvailableShards()),
+                getNotedBoneTypes(result.getBoneBreakdown()), prayerPoints);
+    }
+
+    public TripPlan plan(int totalShards, int notedBoneTypes, int prayerPoints) {
+        if (totalShards < 0) {
+            throw new IllegalArgumentException("Total shards cannot be negative");
+        }
+        if (notedBoneTypes < 0) {
+            throw new IllegalArgumentException("Noted bone types cannot be negative");
+        }
+        if (prayerPoints < 0) {
+            throw new IllegalArgumentException("Prayer points cannot be negative");
+        }
+
+        if (totalShards == 0) {
+            return TripPlan.EMPTY;
+        }
+
+        int totalWines = (totalShards + PrayerConstants.SHARDS_PER_WINE - 1) / PrayerConstants.SHARDS_PER_WINE;
+
+        // Shards always take a slot; noted bones also need a chisel to turn them into shards
+        int reservedSlots = 1 + (notedBoneTypes > 0 ? notedBoneTypes + 1 : 0);
+        int wineSlots = Math.max(0, PrayerConstants.INVENTORY_SIZE - reservedSlots);
+        int prayerWines = prayerPoints / (PrayerConstants.PRAYER_POINTS_PER_BLESSING
+                + PrayerConstants.PRAYER_POINTS_PER_WINE);
+
+        TripPlan.Limit limit;
+        int winesPerTrip;
+        if (prayerWines < wineSlots) {
+            limit = TripPlan.Limit.PRAYER;
+            winesPerTrip = prayerWines;
+        } else {
+            limit = TripPlan.Limit.INVENTORY;
+            winesPerTrip = wineSlots;
+        }
+
+        if (winesPerTrip == 0) {
+            return new TripPlan(totalShards, totalWines, 0, 0, reservedSlots, limit, false);
+        }
+
+        // Everything fits in one trip, so neither limit is actually reached
+        if (totalWines <= winesPerTrip) {
+            limit = TripPlan.Limit.NONE;
+        }
+
+        int tripCount = (totalWines + winesPerTrip - 1) / winesPerTrip;
+        return new TripPlan(totalShards, totalWines, tripCount, winesPerTrip, reservedSlots, limit, true);
+    }
+
+    private static int getShardsToOffer(int requiredShards, int totalAvailableShards) {
+        // Goal mode plans the shards needed for the goal, resource mode plans everything available
+        return requiredShards > 0 ? requiredShards : totalAvailableShards;
+    }
+
+    private static int getNotedBoneTypes(BoneBreakdown bones) {
+        int types = bones.getTypeCount();
+        if (bones.getCount(BoneType.BLESSED_BONE_SHARDS) > 0) {
+            types--;
+        }
+        return types;
+    }
+}
@@ -0,0 +1,178 @@
+package com.boneshardhelper;
+
+import net.runelite.api.Skill;
+import net.runelite.api.events.StatChanged;
+
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Tracks Prayer XP drops from StatChanged in a fixed-size ring buffer and keeps a running XP sum for each
+// rolling window. Every drop is added to each window once and evicted from it once, so updates are O(1)
+// amortized and reading a rate never rescans the buffer.
+@Singleton
+public class XpRateTracker {
+
+    static final long[] WINDOW_MILLIS = { 5 * 60 * 1000L, 15 * 60 * 1000L, 60 * 60 * 1000L };
+
+    // Enough for an hour of drops at one per tick
+    static final int CAPACITY = 6000;
+
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+
+    // No rate is reported until at least one game tick has been tracked
+    static final long MIN_SPAN_MILLIS = 600L;
+
+    public interface Listener {
+        // Called on the client thread whenever Prayer XP changes
+        void onPrayerXpChanged(int previousXP, int currentXP);
+    }
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // Ring buffer of drops; head is the next slot to write
+    private final long[] dropTimes = new long[CAPACITY];
+    private final int[] dropGains = new int[CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    // Per window: index of its oldest drop, number of drops it holds, and their XP sum
+    private final int[] windowTails = new int[WINDOW_MILLIS.length];
+    private final int[] windowCounts = new int[WINDOW_MILLIS.length];
+    private final long[] windowSums = new long[WINDOW_MILLIS.length];
+
+    private int lastXP = -1;
+    private long trackingStartMillis = 0;
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public void onStatChanged(StatChanged event) {
+        if (event.getSkill() != Skill.PRAYER) {
+            return;
+        }
+
+        int xp = event.getXp();
+        int previousXP = updateXp(xp, System.currentTimeMillis());
+        if (previousXP == xp) {
+            return;
+        }
+
+        for (Listener listener : listeners) {
+            listener.onPrayerXpChanged(previousXP, xp);
+        }
+    }
+
+    public synchronized void reset() {
+        head = 0;
+        size = 0;
+        lastXP = -1;
+        trackingStartMillis = 0;
+        for (int window = 0; window < WINDOW_MILLIS.length; window++) {
+            windowTails[window] = 0;
+            windowCounts[window] = 0;
+            windowSums[window] = 0;
+        }
+    }
+
+    public synchronized int getLastXP() {
+        // -1 until the first StatChanged after login
+        return lastXP;
+    }
+
+    public synchronized double getXpPerHour(int window, long now) {
+        evictOlderThan(now);
+
+        long tracked = now - trackingStartMillis;
+        if (trackingStartMillis == 0 || tracked < MIN_SPAN_MILLIS || windowCounts[window] == 0) {
+            return 0;
+        }
+
+        // Until a full window has passed, average over the time actually tracked
+        long span = Math.min(WINDOW_MILLIS[window], tracked);
+        return (double) windowSums[window] * HOUR_MILLIS / span;
+    }
+
+    public synchronized long getEstimatedMillisToGoal(int remainingXP, long now) {
+        // Uses the shortest window with any drops in it; -1 when there is no rate yet
+        if (remainingXP <= 0) {
+            return 0;
+        }
+
+        for (int window = 0; window < WINDOW_MILLIS.length; window++) {
+            double xpPerHour = getXpPerHour(window, now);
+            if (xpPerHour > 0) {
+                return (long) Math.ceil(remainingXP / xpPerHour * HOUR_MILLIS);
+            }
+        }
+        return -1;
+    }
+
+    public long getEstimatedMillisToGoal(CalculationResult result, long now) {
+        return getEstimatedMillisToGoal(result.isGoalAlreadyAchieved() ? 0 : result.getRemainingXP(), now);
+    }
+
+    synchronized int updateXp(int xp, long now) {
+        // Returns the XP before this update
+        int previousXP = lastXP;
+        if (previousXP == xp) {
+            return previousXP;
+        }
+
+        lastXP = xp;
+        if (previousXP < 0) {
+            // The first event after login reports the whole XP total, not a drop; the clock starts here so
+            // the first real drop is averaged over the time it took rather than over nothing
+            trackingStartMillis = now;
+        } else if (xp > previousXP) {
+            record(xp - previousXP, now);
+        }
+        return previousXP;
+    }
+
+    synchronized void record(int gain, long now) {
+        // A full buffer overwrites its oldest drop, which must leave every window still holding it
+        if (size == CAPACITY) {
+            for (int window = 0; window < WINDOW_MILLIS.length; window++) {
+                if (windowCounts[window] == CAPACITY) {
+                    evictOldest(window);
+                }
+            }
+            size--;
+        }
+
+        dropTimes[head] = now;
+        dropGains[head] = gain;
+        for (int window = 0; window < WINDOW_MILLIS.length; window++) {
+            if (windowCounts[window] == 0) {
+                windowTails[window] = head;
+            }
+            windowCounts[window]++;
+            windowSums[window] += gain;
+        }
+        head = (head + 1) % CAPACITY;
+        size++;
+
+        evictOlderThan(now);
+    }
+
+    private void evictOlderThan(long now) {
+        for (int window = 0; window < WINDOW_MILLIS.length; window++) {
+            long cutoff = now - WINDOW_MILLIS[window];
+            while (windowCounts[window] > 0 && dropTimes[windowTails[window]] <= cutoff) {
+                evictOldest(window);
+            }
+        }
+    }
+
+    private void evictOldest(int window) {
+        windowSums[window] -= dropGains[windowTails[window]];
+        windowTails[window] = (windowTails[window] + 1) % CAPACITY;
+        windowCounts[window]--;
+    }
+}
@@ -0,0 +1,148 @@
+package com.boneshardhelper;
+
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.events.ItemContainerChanged;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BoneContainerTrackerTest
+{
+	private static final int BIG_BONES = 532;
+	private static final int DRAGON_BONES = 536;
+
+	// Counts are reported under the consolidated type
+	private static final BoneType BIG = BoneType.BIG_BONES.getConsolidatedType();
+	private static final BoneType DRAGON = BoneType.DRAGON_BONES.getConsolidatedType();
+
+	private final List<Map<BoneType, Integer>> notifications = new ArrayList<>();
+
+	private BoneContainerTracker tracker;
+
+	@Before
+	public void setUp()
+	{
+		tracker = new BoneContainerTracker();
+		tracker.addListener((changedCounts, totalShards) -> notifications.add(changedCounts));
+	}
+
+	@Test
+	public void onlyTheInventoryIsCountedByDefault()
+	{
+		change(BoneContainerTracker.TrackedContainer.INVENTORY, new Item(BIG_BONES, 2));
+		change(BoneContainerTracker.TrackedContainer.LOOTING_BAG, new Item(DRAGON_BONES, 5));
+
+		assertEquals(1, notifications.size());
+		assertEquals(Integer.valueOf(2), tracker.getBoneCounts().get(BIG));
+		assertEquals(2 * BIG.getShardValue(), tracker.getTotalShards());
+	}
+
+	@Test
+	public void enablingAContainerAddsItsCachedCounts()
+	{
+		change(BoneContainerTracker.TrackedContainer.INVENTORY, new Item(DRAGON_BONES, 2));
+		change(BoneContainerTracker.TrackedContainer.LOOTING_BAG, new Item(DRAGON_BONES, 5));
+		notifications.clear();
+
+		tracker.setEnabled(BoneContainerTracker.TrackedContainer.LOOTING_BAG, true);
+
+		assertEquals(1, notifications.size());
+		assertEquals(Integer.valueOf(7), notifications.get(0).get(DRAGON));
+		assertEquals(7 * DRAGON.getShardValue(), tracker.getTotalShards());
+	}
+
+	@Test
+	public void disablingAContainerRemovesOnlyItsCounts()
+	{
+		tracker.setEnabled(BoneContainerTracker.TrackedContainer.LOOTING_BAG, true);
+		change(BoneContainerTracker.TrackedContainer.INVENTORY, new Item(BIG_BONES, 3));
+		change(BoneContainerTracker.TrackedContainer.LOOTING_BAG, new Item(DRAGON_BONES, 4), new Item(BIG_BONES, 1));
+
+		tracker.setEnabled(BoneContainerTracker.TrackedContainer.LOOTING_BAG, false);
+
+		Map<BoneType, Integer> counts = tracker.getBoneCounts();
+		assertEquals(1, counts.size());
+		assertEquals(Integer.valueOf(3), counts.get(BIG));
+		assertEquals(3 * BIG.getShardValue(), tracker.getTotalShards());
+	}
+
+	@Test
+	public void changesKeepTheRunningTotalInStep()
+	{
+		tracker.setEnabled(BoneContainerTracker.TrackedContainer.GROUP_STORAGE, true);
+		change(BoneContainerTracker.TrackedContainer.GROUP_STORAGE, new Item(DRAGON_BONES, 10));
+		change(BoneContainerTracker.TrackedContainer.INVENTORY, new Item(DRAGON_BONES, 2));
+
+		// Withdrawing moves bones between two counted containers, so the total does not change
+		change(BoneContainerTracker.TrackedContainer.GROUP_STORAGE, new Item(DRAGON_BONES, 6));
+		change(BoneContainerTracker.TrackedContainer.INVENTORY, new Item(DRAGON_BONES, 6));
+
+		assertEquals(Integer.valueOf(12), tracker.getBoneCounts().get(DRAGON));
+		assertEquals(12 * DRAGON.getShardValue(), tracker.getTotalShards());
+	}
+
+	@Test
+	public void untrackedContainersAreIgnored()
+	{
+		tracker.onItemContainerChanged(new ItemContainerChanged(BankBoneSnapshot.BANK_CONTAINER_ID,
+			container(new Item(DRAGON_BONES, 100))));
+
+		assertTrue(notifications.isEmpty());
+		assertEquals(0, tracker.getTotalShards());
+	}
+
+	@Test
+	public void resyncRecountsContainersTheClientNoLongerHolds()
+	{
+		tracker.setEnabled(BoneContainerTracker.TrackedContainer.LOOTING_BAG, true);
+		change(BoneContainerTracker.TrackedContainer.INVENTORY, new Item(DRAGON_BONES, 2));
+		change(BoneContainerTracker.TrackedContainer.LOOTING_BAG, new Item(DRAGON_BONES, 5));
+
+		ItemContainer inventory = container(new Item(DRAGON_BONES, 3));
+		tracker.resync(containerId ->
+			containerId == BoneContainerTracker.TrackedContainer.INVENTORY.getContainerId() ? inventory : null);
+
+		// The live inventory replaces its snapshot; the closed looting bag keeps its cached contents
+		assertEquals(Integer.valueOf(8), tracker.getBoneCounts().get(DRAGON));
+		assertEquals(8 * DRAGON.getShardValue(), tracker.getTotalShards());
+	}
+
+	@Test
+	public void winesAndSplintersAreCountedWithoutNotifyingBoneListeners()
+	{
+		int[][] supplies = new int[1][];
+		tracker.addSupplyListener(supplyCounts -> supplies[0] = supplyCounts);
+
+		change(BoneContainerTracker.TrackedContainer.INVENTORY, new Item(WineSupply.JUG_OF_WINE.getItemId(), 5),
+			new Item(WineSupply.SUNFIRE_SPLINTERS.getItemId(), 40));
+
+		assertTrue(notifications.isEmpty());
+		assertEquals(5, supplies[0][WineSupply.JUG_OF_WINE.ordinal()]);
+		assertEquals(40, supplies[0][WineSupply.SUNFIRE_SPLINTERS.ordinal()]);
+
+		change(BoneContainerTracker.TrackedContainer.INVENTORY, new Item(WineSupply.JUG_OF_WINE.getItemId(), 4),
+			new Item(WineSupply.SUNFIRE_SPLINTERS.getItemId(), 40));
+		assertEquals(4, tracker.getSupplyCounts()[WineSupply.JUG_OF_WINE.ordinal()]);
+	}
+
+	private void change(BoneContainerTracker.TrackedContainer tracked, Item... items)
+	{
+		tracker.onItemContainerChanged(new ItemContainerChanged(tracked.getContainerId(), container(items)));
+	}
+
+	private static ItemContainer container(Item... items)
+	{
+		ItemContainer container = mock(ItemContainer.class);
+		when(container.getItems()).thenReturn(items);
+		return container;
+	}
+}
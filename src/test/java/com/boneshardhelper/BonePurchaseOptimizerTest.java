@@ -0,0 +1,137 @@
+package com.boneshardhelper;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BonePurchaseOptimizerTest
+{
+	private final BonePurchaseOptimizer optimizer = new BonePurchaseOptimizer();
+
+	// Price sets that make a different bone the best value, plus one with a near tie
+	private static final List<Map<Integer, Integer>> PRICE_SETS = Arrays.asList(
+		prices(532, 300, 534, 700, 536, 2_400, 11943, 2_100, 22786, 3_900, 22124, 9_000),
+		prices(532, 900, 534, 1_500, 536, 2_000, 11943, 3_000, 22786, 5_000, 22124, 6_000),
+		prices(532, 50, 534, 120, 536, 2_900),
+		prices(536, 2_320, 11943, 2_721, 22124, 4_839),
+		prices(534, 1, 22786, 5, 22124, 4));
+
+	@Test
+	public void matchesANaiveSearchForSmallShortfalls()
+	{
+		for (Map<Integer, Integer> prices : PRICE_SETS)
+		{
+			for (int shortfall = 1; shortfall <= 600; shortfall++)
+			{
+				BonePurchasePlan plan = optimizer.optimize(shortfall, prices);
+
+				assertEquals(prices + " / " + shortfall, naiveCost(shortfall, prices), plan.getTotalCost());
+				assertCoversShortfall(plan, shortfall, prices);
+			}
+		}
+	}
+
+	@Test
+	public void largeShortfallsAreBulkFilledWithTheBestValueBone()
+	{
+		int shortfall = 5_000_000;
+		for (Map<Integer, Integer> prices : PRICE_SETS)
+		{
+			BoneType best = null;
+			int maxValue = 0;
+			for (BoneType boneType : BoneType.values())
+			{
+				Integer price = prices.get(boneType.getBaseItemId());
+				if (price == null)
+				{
+					continue;
+				}
+
+				maxValue = Math.max(maxValue, boneType.getShardValue());
+				if (best == null || (long) price * best.getShardValue()
+					< (long) prices.get(best.getBaseItemId()) * boneType.getShardValue())
+				{
+					best = boneType;
+				}
+			}
+
+			long bound = (long) best.getShardValue() * maxValue;
+			long bulkCount = (shortfall - bound) / best.getShardValue();
+			int remaining = (int) (shortfall - bulkCount * best.getShardValue());
+			long expected = bulkCount * prices.get(best.getBaseItemId()) + naiveCost(remaining, prices);
+
+			BonePurchasePlan plan = optimizer.optimize(shortfall, prices);
+
+			assertEquals(prices.toString(), expected, plan.getTotalCost());
+			assertCoversShortfall(plan, shortfall, prices);
+		}
+	}
+
+	@Test
+	public void noKnownPricesIsUnavailable()
+	{
+		assertFalse(optimizer.optimize(100, new HashMap<>()).isAvailable());
+		assertTrue(optimizer.optimize(0, new HashMap<>()).isAvailable());
+	}
+
+	private static void assertCoversShortfall(BonePurchasePlan plan, int shortfall, Map<Integer, Integer> prices)
+	{
+		long shards = 0;
+		long cost = 0;
+		for (Map.Entry<BoneType, Integer> entry : plan.getQuantities().entrySet())
+		{
+			shards += (long) entry.getKey().getShardValue() * entry.getValue();
+			cost += (long) prices.get(entry.getKey().getBaseItemId()) * entry.getValue();
+		}
+
+		assertTrue(plan.isAvailable());
+		assertTrue(plan.getTotalShards() >= shortfall);
+		assertEquals(shards, plan.getTotalShards());
+		assertEquals(cost, plan.getTotalCost());
+	}
+
+	// cost[x] = cheapest mix worth at least x shards, built up one bone at a time
+	private static long naiveCost(int shortfall, Map<Integer, Integer> prices)
+	{
+		long[] cost = new long[shortfall + 1];
+		for (int x = 1; x <= shortfall; x++)
+		{
+			cost[x] = Long.MAX_VALUE;
+			for (Map.Entry<Integer, Integer> entry : prices.entrySet())
+			{
+				int value = shardValue(entry.getKey());
+				cost[x] = Math.min(cost[x], cost[Math.max(0, x - value)] + entry.getValue());
+			}
+		}
+		return cost[shortfall];
+	}
+
+	private static int shardValue(int itemId)
+	{
+		for (BoneType boneType : BoneType.values())
+		{
+			if (boneType.getBaseItemId() == itemId)
+			{
+				return boneType.getShardValue();
+			}
+		}
+		throw new IllegalArgumentException("Not a bone: " + itemId);
+	}
+
+	private static Map<Integer, Integer> prices(int... itemIdsAndPrices)
+	{
+		Map<Integer, Integer> prices = new HashMap<>();
+		for (int i = 0; i < itemIdsAndPrices.length; i += 2)
+		{
+			prices.put(itemIdsAndPrices[i], itemIdsAndPrices[i + 1]);
+		}
+		return prices;
+	}
+}
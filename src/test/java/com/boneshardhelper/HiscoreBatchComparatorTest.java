@@ -0,0 +1,145 @@
+package com.boneshardhelper;
+
+import net.runelite.client.hiscore.HiscoreResult;
+import net.runelite.client.hiscore.HiscoreSkill;
+import net.runelite.client.hiscore.Skill;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HiscoreBatchComparatorTest
+{
+	private static final int TARGET_XP = 13_034_431;
+
+	// Pending lookups by name, completed by the test in whatever order it likes
+	private final Map<String, CompletableFuture<HiscoreResult>> lookups = new LinkedHashMap<>();
+	private final PrayerCalculationEngine engine = new PrayerCalculationEngine();
+
+	private HiscoreBatchComparator comparator;
+	private int updates;
+
+	@Before
+	public void setUp()
+	{
+		comparator = new HiscoreBatchComparator(name ->
+		{
+			CompletableFuture<HiscoreResult> future = new CompletableFuture<>();
+			lookups.put(name, future);
+			return future;
+		}, engine);
+		comparator.setListener(() -> updates++);
+	}
+
+	@Test
+	public void lookupsAreLimitedToTheConcurrencyBound()
+	{
+		comparator.start(Arrays.asList("a", "b", "c", "d"), TARGET_XP, false, false);
+		assertEquals(HiscoreBatchComparator.MAX_CONCURRENT_LOOKUPS, lookups.size());
+
+		lookups.get("a").complete(resultWithXP(1_000_000));
+		assertEquals(3, lookups.size());
+		assertTrue(lookups.containsKey("c"));
+	}
+
+	@Test
+	public void rowsFillInAsLookupsFinish()
+	{
+		comparator.start(Arrays.asList("a", "b"), TARGET_XP, false, false);
+		lookups.get("b").complete(resultWithXP(5_000_000));
+
+		List<HiscoreBatchComparator.Row> rows = comparator.getRows();
+		assertEquals(HiscoreBatchComparator.Status.PENDING, rows.get(0).getStatus());
+		assertEquals(HiscoreBatchComparator.Status.LOADED, rows.get(1).getStatus());
+		assertEquals(engine.calculateRequiredShards(TARGET_XP - 5_000_000, 5), rows.get(1).getRequiredShards());
+		assertEquals(engine.calculateWinesNeeded(rows.get(1).getRequiredShards()), rows.get(1).getWinesNeeded());
+		assertTrue(comparator.isRunning());
+
+		lookups.get("a").completeExceptionally(new IOException("not found"));
+		assertEquals(HiscoreBatchComparator.Status.FAILED, comparator.getRows().get(0).getStatus());
+		assertFalse(comparator.isRunning());
+		assertTrue(updates >= 3);
+	}
+
+	@Test
+	public void unrankedPrayerIsReportedAsFailed()
+	{
+		comparator.start(Arrays.asList("a"), TARGET_XP, false, false);
+		lookups.get("a").complete(resultWithXP(-1));
+
+		assertEquals(HiscoreBatchComparator.Status.FAILED, comparator.getRows().get(0).getStatus());
+	}
+
+	@Test
+	public void startingANewBatchDropsLateResultsFromTheOldOne()
+	{
+		comparator.start(Arrays.asList("a", "b", "c"), TARGET_XP, false, false);
+		CompletableFuture<HiscoreResult> oldLookup = lookups.get("a");
+
+		lookups.clear();
+		comparator.start(Arrays.asList("x"), TARGET_XP, false, false);
+		oldLookup.complete(resultWithXP(1_000_000));
+
+		// The old batch must not launch "c" or touch the new rows
+		assertEquals(1, lookups.size());
+		List<HiscoreBatchComparator.Row> rows = comparator.getRows();
+		assertEquals(1, rows.size());
+		assertEquals("x", rows.get(0).getUsername());
+		assertEquals(HiscoreBatchComparator.Status.PENDING, rows.get(0).getStatus());
+	}
+
+	@Test
+	public void cancelStopsFurtherLookups()
+	{
+		comparator.start(Arrays.asList("a", "b", "c"), TARGET_XP, false, false);
+		comparator.cancel();
+		lookups.get("a").complete(resultWithXP(1_000_000));
+
+		assertEquals(2, lookups.size());
+		assertFalse(comparator.isRunning());
+		for (HiscoreBatchComparator.Row row : comparator.getRows())
+		{
+			assertEquals(HiscoreBatchComparator.Status.CANCELLED, row.getStatus());
+		}
+	}
+
+	@Test
+	public void changingTheGoalRecomputesFetchedPlayersWithoutNewLookups()
+	{
+		comparator.start(Arrays.asList("a"), TARGET_XP, false, false);
+		lookups.get("a").complete(resultWithXP(2_000_000));
+
+		comparator.setGoal(TARGET_XP, true, true);
+
+		assertEquals(1, lookups.size());
+		double xpPerShard = PrayerDataSnapshot.xpPerShard(true, true);
+		assertEquals(engine.calculateRequiredShards(TARGET_XP - 2_000_000, xpPerShard),
+			comparator.getRows().get(0).getRequiredShards());
+	}
+
+	@Test
+	public void parseUsernamesSplitsTrimsAndDropsDuplicates()
+	{
+		List<String> names = HiscoreBatchComparator.parseUsernames(" Zezima\nLynx_Titan, lynx titan;\n\nB0aty ");
+
+		assertEquals(Arrays.asList("Zezima", "Lynx_Titan", "B0aty"), names);
+	}
+
+	private static HiscoreResult resultWithXP(long experience)
+	{
+		HiscoreResult result = mock(HiscoreResult.class);
+		when(result.getSkill(HiscoreSkill.PRAYER)).thenReturn(new Skill(1, 99, experience));
+		return result;
+	}
+}
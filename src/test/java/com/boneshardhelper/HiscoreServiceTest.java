@@ -0,0 +1,222 @@
+package com.boneshardhelper;
+
+import net.runelite.client.hiscore.HiscoreClient;
+import net.runelite.client.hiscore.HiscoreResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HiscoreServiceTest
+{
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final HiscoreResult result = mock(HiscoreResult.class);
+
+	private HiscoreClient hiscoreClient;
+	private ExecutorService executor;
+	private HiscoreService hiscoreService;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		hiscoreClient = mock(HiscoreClient.class);
+		when(hiscoreClient.lookup(anyString())).thenReturn(result);
+		executor = Executors.newFixedThreadPool(2);
+		hiscoreService = new HiscoreService(hiscoreClient, executor, now::get, 5_000);
+	}
+
+	@After
+	public void tearDown()
+	{
+		hiscoreService.shutdown();
+	}
+
+	@Test
+	public void repeatedLookupIsServedFromCache() throws Exception
+	{
+		assertSame(result, hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS));
+
+		CompletableFuture<HiscoreResult> cached = hiscoreService.lookup("Zezima");
+		assertTrue(cached.isDone());
+		assertSame(result, cached.get());
+		verify(hiscoreClient, times(1)).lookup("zezima");
+	}
+
+	@Test
+	public void equivalentNamesShareOneCacheEntry() throws Exception
+	{
+		hiscoreService.lookup("Iron_Man").get(1, TimeUnit.SECONDS);
+		hiscoreService.lookup(" iron-man ").get(1, TimeUnit.SECONDS);
+		hiscoreService.lookup("IRON  MAN").get(1, TimeUnit.SECONDS);
+		hiscoreService.lookup("Iron\u00A0Man").get(1, TimeUnit.SECONDS);
+
+		verify(hiscoreClient, times(1)).lookup("iron man");
+	}
+
+	@Test
+	public void concurrentLookupsAreCoalesced() throws Exception
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(hiscoreClient.lookup(anyString())).thenAnswer(invocation ->
+		{
+			started.countDown();
+			release.await();
+			return result;
+		});
+
+		CompletableFuture<HiscoreResult> first = hiscoreService.lookup("Zezima");
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+		CompletableFuture<HiscoreResult> second = hiscoreService.lookup("zezima");
+		assertSame(first, second);
+
+		release.countDown();
+		assertSame(result, second.get(1, TimeUnit.SECONDS));
+		verify(hiscoreClient, times(1)).lookup("zezima");
+	}
+
+	@Test
+	public void expiredEntriesAreLookedUpAgain() throws Exception
+	{
+		hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS);
+
+		now.addAndGet(HiscoreService.CACHE_TTL_MILLIS - 1);
+		hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS);
+		verify(hiscoreClient, times(1)).lookup("zezima");
+
+		now.addAndGet(1);
+		hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS);
+		verify(hiscoreClient, times(2)).lookup("zezima");
+	}
+
+	@Test
+	public void failedLookupsAreNotCached() throws Exception
+	{
+		when(hiscoreClient.lookup(anyString()))
+			.thenThrow(new IOException("hiscores unavailable"))
+			.thenReturn(result);
+
+		try
+		{
+			hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS);
+			fail("Expected the lookup to fail");
+		}
+		catch (ExecutionException e)
+		{
+			assertTrue(e.getCause() instanceof IOException);
+		}
+
+		assertSame(result, hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS));
+		verify(hiscoreClient, times(2)).lookup("zezima");
+	}
+
+	@Test
+	public void slowLookupsTimeOut() throws Exception
+	{
+		CountDownLatch release = new CountDownLatch(1);
+		when(hiscoreClient.lookup(anyString())).thenAnswer(invocation ->
+		{
+			release.await();
+			return result;
+		});
+		hiscoreService = new HiscoreService(hiscoreClient, executor, now::get, 50);
+
+		try
+		{
+			hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS);
+			fail("Expected the lookup to time out");
+		}
+		catch (ExecutionException e)
+		{
+			assertTrue(e.getCause() instanceof TimeoutException);
+		}
+		finally
+		{
+			release.countDown();
+		}
+
+		// The timed out request is no longer in flight, so the next lookup starts a new one
+		assertSame(result, hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS));
+		verify(hiscoreClient, times(2)).lookup("zezima");
+	}
+
+	@Test
+	public void timedOutLookupsAreInterrupted() throws Exception
+	{
+		CountDownLatch interrupted = new CountDownLatch(1);
+		when(hiscoreClient.lookup(anyString())).thenAnswer(invocation ->
+		{
+			try
+			{
+				new CountDownLatch(1).await();
+			}
+			catch (InterruptedException e)
+			{
+				interrupted.countDown();
+				throw e;
+			}
+			return result;
+		});
+		hiscoreService = new HiscoreService(hiscoreClient, executor, now::get, 50);
+
+		try
+		{
+			hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS);
+			fail("Expected the lookup to time out");
+		}
+		catch (ExecutionException e)
+		{
+			assertTrue(e.getCause() instanceof TimeoutException);
+		}
+
+		// The worker blocked in the lookup is freed rather than left running
+		assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void lookupsWorkAgainAfterShutdown() throws Exception
+	{
+		// The injected constructor builds its own executor, and a new one after each shutdown
+		hiscoreService = new HiscoreService(hiscoreClient);
+		assertSame(result, hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS));
+
+		hiscoreService.shutdown();
+		hiscoreService.clearCache();
+
+		assertSame(result, hiscoreService.lookup("Zezima").get(1, TimeUnit.SECONDS));
+		verify(hiscoreClient, times(2)).lookup("zezima");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void blankUsernameIsRejected()
+	{
+		hiscoreService.lookup("  ");
+	}
+
+	@Test
+	public void normalizeUsernameFoldsSeparatorsAndCase()
+	{
+		assertEquals("lynx titan", HiscoreService.normalizeUsername("  Lynx_Titan "));
+		assertEquals("lynx titan", HiscoreService.normalizeUsername("lynx-titan"));
+		assertEquals("lynx titan", HiscoreService.normalizeUsername("LYNX   TITAN"));
+	}
+}
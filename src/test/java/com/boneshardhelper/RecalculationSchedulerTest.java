@@ -0,0 +1,61 @@
+package com.boneshardhelper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RecalculationSchedulerTest
+{
+	private final List<Integer> runs = new ArrayList<>();
+	private final RecalculationScheduler scheduler = new RecalculationScheduler(runs::add);
+
+	@Test
+	public void requestsAreMergedIntoOneRun()
+	{
+		scheduler.request(RecalculationScheduler.GOAL_MODE);
+		scheduler.request(RecalculationScheduler.RESOURCE_MODE);
+		scheduler.flush();
+		scheduler.flush();
+
+		assertEquals(1, runs.size());
+		assertEquals(RecalculationScheduler.GOAL_MODE | RecalculationScheduler.RESOURCE_MODE, (int) runs.get(0));
+	}
+
+	@Test
+	public void aNewerStartMakesTheOlderResultStale()
+	{
+		int older = scheduler.startAsync(RecalculationScheduler.RESOURCE_MODE);
+		int newer = scheduler.startAsync(RecalculationScheduler.RESOURCE_MODE);
+
+		assertFalse(scheduler.isCurrent(RecalculationScheduler.RESOURCE_MODE, older));
+		assertTrue(scheduler.isCurrent(RecalculationScheduler.RESOURCE_MODE, newer));
+	}
+
+	@Test
+	public void invalidatingOneTargetLeavesTheOthersCurrent()
+	{
+		int resourceScan = scheduler.startAsync(RecalculationScheduler.RESOURCE_MODE);
+		int planningScan = scheduler.startAsync(RecalculationScheduler.RESOURCE_PLANNING);
+
+		scheduler.invalidate(RecalculationScheduler.RESOURCE_PLANNING);
+
+		assertTrue(scheduler.isCurrent(RecalculationScheduler.RESOURCE_MODE, resourceScan));
+		assertFalse(scheduler.isCurrent(RecalculationScheduler.RESOURCE_PLANNING, planningScan));
+	}
+
+	@Test
+	public void requestsDoNotDiscardScansInFlight()
+	{
+		// Input changes recalculate from the data already shown, so a scan started earlier still applies
+		int scan = scheduler.startAsync(RecalculationScheduler.RESOURCE_MODE);
+		scheduler.request(RecalculationScheduler.RESOURCE_MODE);
+		scheduler.flush();
+
+		assertTrue(scheduler.isCurrent(RecalculationScheduler.RESOURCE_MODE, scan));
+	}
+}
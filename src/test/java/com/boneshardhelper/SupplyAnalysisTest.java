@@ -0,0 +1,80 @@
+package com.boneshardhelper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SupplyAnalysisTest
+{
+	private final PrayerCalculationEngine engine = new PrayerCalculationEngine();
+
+	@Test
+	public void enoughWineLeavesShardsAsTheBottleneck()
+	{
+		SupplyAnalysis analysis = engine.analyzeSupplies(4_000, supplies(8, 2, 0, 0, 0), false);
+
+		assertEquals(SupplyAnalysis.Bottleneck.SHARDS, analysis.getBottleneck());
+		assertEquals(4_000, analysis.getShardsProcessable());
+		assertEquals(0, analysis.getWinesShort());
+	}
+
+	@Test
+	public void aPartWineIsStillNeededForLeftoverShards()
+	{
+		SupplyAnalysis analysis = engine.analyzeSupplies(4_001, supplies(10, 0, 0, 0, 0), false);
+
+		assertEquals(SupplyAnalysis.Bottleneck.WINES, analysis.getBottleneck());
+		assertEquals(1, analysis.getWinesShort());
+	}
+
+	@Test
+	public void sunfireRunsConvertJugsWithTheSplintersOnHand()
+	{
+		// 9 splinters convert 4 of the 10 jugs, on top of 3 ready sunfire wines
+		SupplyAnalysis analysis = engine.analyzeSupplies(4_000, supplies(10, 0, 1, 2, 9), true);
+
+		assertEquals(7, analysis.getWinesAvailable());
+		assertEquals(SupplyAnalysis.Bottleneck.SPLINTERS, analysis.getBottleneck());
+		assertEquals(3 * PrayerConstants.SPLINTERS_PER_SUNFIRE_WINE - 1, analysis.getSplintersShort());
+	}
+
+	@Test
+	public void sunfireRunsWithSpareSplintersAreLimitedByWine()
+	{
+		SupplyAnalysis analysis = engine.analyzeSupplies(4_000, supplies(3, 0, 1, 2, 20), true);
+
+		assertEquals(6, analysis.getWinesAvailable());
+		assertEquals(SupplyAnalysis.Bottleneck.WINES, analysis.getBottleneck());
+		assertEquals(0, analysis.getSplintersShort());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeShardsAreRejected()
+	{
+		engine.analyzeSupplies(-1, supplies(0, 0, 0, 0, 0), false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void missingSupplyCountsAreRejected()
+	{
+		engine.analyzeSupplies(100, null, false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void supplyCountsOfTheWrongLengthAreRejected()
+	{
+		engine.analyzeSupplies(100, new int[WineSupply.getCount() - 1], true);
+	}
+
+	private static int[] supplies(int jugs, int blessedWines, int sunfireWines, int blessedSunfireWines,
+		int splinters)
+	{
+		int[] counts = new int[WineSupply.getCount()];
+		counts[WineSupply.JUG_OF_WINE.ordinal()] = jugs;
+		counts[WineSupply.BLESSED_WINE.ordinal()] = blessedWines;
+		counts[WineSupply.SUNFIRE_WINE.ordinal()] = sunfireWines;
+		counts[WineSupply.BLESSED_SUNFIRE_WINE.ordinal()] = blessedSunfireWines;
+		counts[WineSupply.SUNFIRE_SPLINTERS.ordinal()] = splinters;
+		return counts;
+	}
+}
@@ -0,0 +1,55 @@
+package com.boneshardhelper;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class XpRateTrackerTest
+{
+	private static final long START = 1_000_000L;
+
+	private final XpRateTracker tracker = new XpRateTracker();
+
+	@Test
+	public void theClockStartsAtTheBaselineNotTheFirstDrop()
+	{
+		tracker.updateXp(500_000, START);
+		tracker.updateXp(500_100, START + 60_000);
+
+		// 100 XP over the minute since login, not over the instant of the drop
+		assertEquals(6_000, tracker.getXpPerHour(0, START + 60_000), 0.001);
+	}
+
+	@Test
+	public void noRateIsReportedWithinTheFirstTick()
+	{
+		tracker.updateXp(500_000, START);
+		tracker.updateXp(500_100, START + 300);
+
+		assertEquals(0, tracker.getXpPerHour(0, START + 300), 0);
+		assertEquals(100 * 3_600_000.0 / XpRateTracker.MIN_SPAN_MILLIS,
+			tracker.getXpPerHour(0, START + XpRateTracker.MIN_SPAN_MILLIS), 0.001);
+	}
+
+	@Test
+	public void theBaselineIsNotCountedAsADrop()
+	{
+		tracker.updateXp(500_000, START);
+
+		assertEquals(0, tracker.getXpPerHour(2, START + 60_000), 0);
+		assertEquals(-1, tracker.getEstimatedMillisToGoal(1_000, START + 60_000));
+	}
+
+	@Test
+	public void aResetWaitsForANewBaseline()
+	{
+		tracker.updateXp(500_000, START);
+		tracker.updateXp(500_100, START + 60_000);
+		tracker.reset();
+
+		tracker.updateXp(500_100, START + 120_000);
+		tracker.updateXp(500_400, START + 180_000);
+
+		assertEquals(18_000, tracker.getXpPerHour(0, START + 180_000), 0.001);
+	}
+}